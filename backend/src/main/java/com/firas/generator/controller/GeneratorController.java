@@ -4,18 +4,27 @@ import com.firas.generator.model.DownloadRequest;
 import com.firas.generator.model.FilePreview;
 import com.firas.generator.model.ProjectRequest;
 import com.firas.generator.model.ProjectPreviewResponse;
+import com.firas.generator.service.GenerationAdmissionService;
+import com.firas.generator.service.GenerationRejectedException;
 import com.firas.generator.stack.StackProvider;
 import com.firas.generator.stack.StackProviderFactory;
 import com.firas.generator.stack.StackType;
 import com.firas.generator.util.ZipUtils;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * REST Controller for generating projects for multiple technology stacks.
@@ -27,8 +36,11 @@ import java.util.List;
  * Supports multiple stacks (Spring, Node, Nest, FastAPI) via the stackType field in the request.
  * For backward compatibility, if no stackType is specified, it defaults to SPRING.
  * 
+ * Generation requests go through {@link GenerationAdmissionService}: previews are served
+ * before downloads, and saturated requests are answered with 429 and a Retry-After header.
+ * 
  * @author Firas Baklouti
- * @version 3.0
+ * @version 3.1
  * @since 2025-12-01
  */
 @RestController
@@ -41,6 +53,11 @@ public class GeneratorController {
      * Factory for retrieving stack-specific providers
      */
     private final StackProviderFactory stackProviderFactory;
+    
+    /**
+     * Admission control limiting concurrent generations
+     */
+    private final GenerationAdmissionService admissionService;
 
     /**
      * Generates a complete project based on the provided configuration.
@@ -54,27 +71,53 @@ public class GeneratorController {
      * - Flags for including various code components
      * 
      * The generated project is returned as a ZIP file ready for download and extraction.
+     * The ZIP is streamed to the response while it is generated: templates render straight
+     * into the open ZIP entries, so neither file contents nor the archive are buffered.
+     * The admission permit is held until the ZIP has been fully written. It is also released
+     * when the async request ends without running the body (client gone, async timeout), and
+     * when anything fails before the body is returned.
      * 
      * @param request The project configuration containing all generation parameters
-     * @return ResponseEntity containing the ZIP file as byte array with appropriate headers
-     * @throws IOException If an error occurs during project generation or ZIP creation
+     * @param servletRequest The current request, whose async lifecycle releases the permit
+     * @return ResponseEntity streaming the ZIP file with appropriate headers
      */
     @PostMapping("/project")
-    public ResponseEntity<byte[]> generateProject(@RequestBody ProjectRequest request) throws IOException {
+    public ResponseEntity<StreamingResponseBody> generateProject(@RequestBody ProjectRequest request,
+                                                                 HttpServletRequest servletRequest) {
         // Get the appropriate stack provider
         StackType stackType = request.getStackType() != null ? request.getStackType() : StackType.SPRING;
         StackProvider provider = stackProviderFactory.getProvider(stackType);
         
-        // Generate the project
-        byte[] zipContent = provider.generateProjectZip(request);
-        
         // Determine filename
         String filename = getProjectName(request, stackType);
         
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename + ".zip")
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(zipContent);
+        // Wait for a slot, then generate the project straight into the response
+        GenerationAdmissionService.Permit permit =
+                admissionService.acquire(request, GenerationAdmissionService.Kind.DOWNLOAD);
+        try {
+            // Fallback release: runs when the async request completes, times out or fails,
+            // even if the body below never started (closing the permit twice is a no-op)
+            WebAsyncUtils.getAsyncManager(servletRequest).registerCallableInterceptor(
+                    GenerationAdmissionService.Permit.class.getName(), new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                            permit.close();
+                        }
+                    });
+            StreamingResponseBody zipContent = out -> {
+                try (permit) {
+                    provider.generateProjectZip(request, out);
+                }
+            };
+            
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename + ".zip")
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .body(zipContent);
+        } catch (RuntimeException e) {
+            permit.close();
+            throw e;
+        }
     }
     
     /**
@@ -93,9 +136,12 @@ public class GeneratorController {
         StackType stackType = request.getStackType() != null ? request.getStackType() : StackType.SPRING;
         StackProvider provider = stackProviderFactory.getProvider(stackType);
         
-        // Generate preview files
-        List<FilePreview> files = provider.generateProject(request);
-        return ResponseEntity.ok(new ProjectPreviewResponse(files));
+        // Generate preview files once admitted (previews take priority over downloads)
+        try (GenerationAdmissionService.Permit permit =
+                     admissionService.acquire(request, GenerationAdmissionService.Kind.PREVIEW)) {
+            List<FilePreview> files = provider.generateProject(request);
+            return ResponseEntity.ok(new ProjectPreviewResponse(files));
+        }
     }
     
     /**
@@ -118,6 +164,19 @@ public class GeneratorController {
                 .body(zipContent);
     }
     
+    /**
+     * Answers requests rejected by admission control with 429 Too Many Requests.
+     * 
+     * @param e The rejection, carrying the suggested retry delay
+     * @return Empty 429 response with a Retry-After header
+     */
+    @ExceptionHandler(GenerationRejectedException.class)
+    public ResponseEntity<Void> handleRejected(GenerationRejectedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .build();
+    }
+    
     /**
      * Determines the project name for the ZIP filename.
      */
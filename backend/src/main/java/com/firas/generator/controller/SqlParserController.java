@@ -1,12 +1,25 @@
 package com.firas.generator.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.firas.generator.model.Table;
 import com.firas.generator.util.sql.SqlParser;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 /**
  * REST Controller for parsing SQL schemas into table metadata.
@@ -20,8 +33,11 @@ import java.util.List;
  * 1. Parse SQL using this controller to get table metadata
  * 2. Pass the table metadata to GeneratorController to generate the project
  * 
+ * Large schemas should use the POST streaming endpoint, which reads the SQL from the
+ * request body (optionally gzip-compressed) and returns tables as NDJSON.
+ * 
  * @author Firas Baklouti
- * @version 1.0
+ * @version 1.1
  * @since 2025-12-01
  */
 @RestController
@@ -35,6 +51,11 @@ public class SqlParserController {
      */
     private final SqlParser sqlParser;
 
+    /**
+     * Jackson mapper used to serialise each table as one NDJSON line
+     */
+    private final ObjectMapper objectMapper;
+
     /**
      * Parses SQL statements and returns structured table metadata.
      * 
@@ -64,4 +85,57 @@ public class SqlParserController {
         System.out.println(sql);
         return sqlParser.parseSql(sql, dialect);
     }
+
+    /**
+     * Parses SQL streamed in the request body and writes each table as NDJSON.
+     * 
+     * The SQL is sent as the raw request body instead of a path variable, which avoids
+     * URL length limits and keeps schemas out of proxy access logs. Bodies sent with
+     * {@code Content-Encoding: gzip} are decompressed on the fly. Statements are executed
+     * as they are read, and every parsed table is written as one JSON line and flushed
+     * immediately so clients can render tables while the rest of the response arrives.
+     * 
+     * @param request The servlet request providing the SQL body
+     * @param dialect The SQL dialect ("mysql" or "postgresql")
+     * @return Streaming NDJSON response with one Table object per line
+     */
+    @PostMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> parseSqlStream(
+            HttpServletRequest request,
+            @RequestParam(required = false, defaultValue = "mysql") String dialect
+    ) {
+        StreamingResponseBody body = out -> {
+            try (Reader sql = openSqlReader(request)) {
+                sqlParser.parseSql(sql, dialect, table -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(table));
+                        out.write('\n');
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (SQLException e) {
+                throw new IOException("Failed to parse SQL", e);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Opens a UTF-8 reader over the request body, decompressing gzip-encoded bodies.
+     */
+    private Reader openSqlReader(HttpServletRequest request) throws IOException {
+        InputStream in = request.getInputStream();
+        String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        if (encoding != null && encoding.toLowerCase().contains("gzip")) {
+            in = new GZIPInputStream(in);
+        }
+        return new InputStreamReader(in, StandardCharsets.UTF_8);
+    }
 }
@@ -72,6 +72,9 @@ public class ProjectRequest {
     /** Flag to include JUnit tests for repository and controller layers */
     private boolean includeTests;
     
+    /** Flag to include a Gatling load-test module with CRUD scenarios per entity */
+    private boolean includeLoadTests;
+    
     /** Flag to include Docker files (Dockerfile, docker-compose.yml) */
     private boolean includeDocker;
     
@@ -153,6 +156,9 @@ public class ProjectRequest {
     public boolean isIncludeTests() { return includeTests; }
     public void setIncludeTests(boolean includeTests) { this.includeTests = includeTests; }
     
+    public boolean isIncludeLoadTests() { return includeLoadTests; }
+    public void setIncludeLoadTests(boolean includeLoadTests) { this.includeLoadTests = includeLoadTests; }
+    
     public boolean isIncludeDocker() { return includeDocker; }
     public void setIncludeDocker(boolean includeDocker) { this.includeDocker = includeDocker; }
     
@@ -0,0 +1,35 @@
+package com.firas.generator.model.config;
+
+/**
+ * Cache settings for one generated entity.
+ *
+ * Overrides the project-wide cache TTL and maximum size of {@link SpringConfig}
+ * for a single entity. Unset values fall back to the project defaults.
+ *
+ * @author Firas Baklouti
+ * @version 1.0
+ * @since 2025-12-07
+ */
+public class EntityCacheConfig {
+
+    /** Time to live of cached entries in seconds */
+    private Long ttlSeconds;
+
+    /** Maximum number of cached entries (ignored by Redis, which is bounded by maxmemory) */
+    private Long maxSize;
+
+    // Constructors
+    public EntityCacheConfig() {}
+
+    public EntityCacheConfig(Long ttlSeconds, Long maxSize) {
+        this.ttlSeconds = ttlSeconds;
+        this.maxSize = maxSize;
+    }
+
+    // Getters and Setters
+    public Long getTtlSeconds() { return ttlSeconds; }
+    public void setTtlSeconds(Long ttlSeconds) { this.ttlSeconds = ttlSeconds; }
+
+    public Long getMaxSize() { return maxSize; }
+    public void setMaxSize(Long maxSize) { this.maxSize = maxSize; }
+}
@@ -23,6 +23,12 @@ public class SecurityConfig {
 
     private List<SecurityRule> rules;
 
+    // JWT Request Authentication
+    private boolean jwtUserCache;           // Cache UserDetails per subject and token id
+    private int jwtUserCacheTtlSeconds = 60;
+    private int jwtUserCacheMaxSize = 10000;
+    private boolean jwtAuthoritiesInToken;  // Embed authorities as claims: no lookup per request
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -127,6 +133,38 @@ public class SecurityConfig {
         this.definedRoles = definedRoles;
     }
 
+    public boolean isJwtUserCache() {
+        return jwtUserCache;
+    }
+
+    public void setJwtUserCache(boolean jwtUserCache) {
+        this.jwtUserCache = jwtUserCache;
+    }
+
+    public int getJwtUserCacheTtlSeconds() {
+        return jwtUserCacheTtlSeconds;
+    }
+
+    public void setJwtUserCacheTtlSeconds(int jwtUserCacheTtlSeconds) {
+        this.jwtUserCacheTtlSeconds = jwtUserCacheTtlSeconds;
+    }
+
+    public int getJwtUserCacheMaxSize() {
+        return jwtUserCacheMaxSize;
+    }
+
+    public void setJwtUserCacheMaxSize(int jwtUserCacheMaxSize) {
+        this.jwtUserCacheMaxSize = jwtUserCacheMaxSize;
+    }
+
+    public boolean isJwtAuthoritiesInToken() {
+        return jwtAuthoritiesInToken;
+    }
+
+    public void setJwtAuthoritiesInToken(boolean jwtAuthoritiesInToken) {
+        this.jwtAuthoritiesInToken = jwtAuthoritiesInToken;
+    }
+
     // Inner class for role definitions
     public static class RoleDefinition {
         private String name;
@@ -1,5 +1,8 @@
 package com.firas.generator.model.config;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Spring Boot specific configuration for project generation.
  * 
@@ -32,6 +35,93 @@ public class SpringConfig {
     
     /** Project structure format: layered, feature, ddd, hexagonal */
     private ProjectStructure projectStructure = ProjectStructure.LAYERED;
+    
+    /** Generate paginated (Pageable/Slice) list endpoints instead of unbounded lists */
+    private boolean paginationEnabled = false;
+    
+    /** Also generate keyset (seek) pagination on the primary key, for large tables */
+    private boolean keysetPagination = false;
+    
+    /** Page size used when the client does not request one */
+    private int defaultPageSize = 20;
+    
+    /** Largest page size a client may request */
+    private int maxPageSize = 100;
+    
+    /** Number of lazy associations or collections Hibernate initializes per query (@BatchSize) */
+    private int fetchBatchSize = 25;
+    
+    /** Cache service reads with Spring Cache (Caffeine, or Redis when the Redis dependency is selected) */
+    private boolean cacheEnabled = false;
+    
+    /** Default time to live of cached entries in seconds */
+    private long cacheTtlSeconds = 600;
+    
+    /** Default maximum number of cached entries per entity */
+    private long cacheMaxSize = 1000;
+    
+    /** Per-entity cache overrides, keyed by entity class name or table name */
+    private Map<String, EntityCacheConfig> entityCaches = new HashMap<>();
+    
+    /** Tune for bulk loads: pooled sequence ids, JDBC batching and batch create endpoints */
+    private boolean bulkWrites = false;
+    
+    /** Statements Hibernate groups into one JDBC batch (hibernate.jdbc.batch_size) */
+    private int jdbcBatchSize = 50;
+    
+    /** Generate a reactive (WebFlux + R2DBC) application instead of a servlet (Web MVC + JPA) one */
+    private boolean reactive = false;
+    
+    /** Add a GraalVM native-image build (native profile, native Dockerfile, AOT hints, smoke test) */
+    private boolean nativeImage = false;
+    
+    /** Create a Class Data Sharing archive with a training run while building the Docker image */
+    private boolean classDataSharing = false;
+    
+    /** Run the Docker image on a jlink-trimmed Java runtime instead of a full JRE */
+    private boolean jlinkRuntime = false;
+    
+    /** Maximum share of the container memory limit used for the Java heap */
+    private int maxRamPercentage = 75;
+    
+    /** Add Actuator, Prometheus metrics (HTTP, Hibernate, HikariCP) and a Prometheus/Grafana compose sidecar */
+    private boolean observability = false;
+    
+    /** Add GET /export endpoints streaming every row as NDJSON or CSV through a database cursor */
+    private boolean streamingExport = false;
+    
+    /** Rows fetched per database round trip by the export cursor */
+    private int streamFetchSize = 500;
+    
+    /** Add POST /import endpoints loading NDJSON or CSV rows in batched transactions */
+    private boolean streamingImport = false;
+    
+    /** Rows committed per import transaction */
+    private int importChunkSize = 1000;
+    
+    /** Add @Version columns, ETags with 304 on reads and If-Match checks answering 412 on writes */
+    private boolean optimisticLocking = false;
+    
+    /** Add ?fields= sparse fieldsets to read endpoints, selecting only the requested columns */
+    private boolean sparseFieldsets = false;
+    
+    /** Enable response compression, HTTP/2 and the Jackson Blackbird module */
+    private boolean httpTuning = false;
+    
+    /** Route read-only transactions to a read replica through a second connection pool */
+    private boolean readReplica = false;
+    
+    /** Add GET /filter endpoints with equality filters on indexed columns (unique columns and reference ids) */
+    private boolean filterEndpoints = false;
+    
+    /** Profile the generated app runs with by default: "prod" (tuned, quiet) or "dev" (logs SQL) */
+    private String runtimeProfile = "prod";
+    
+    /** Maximum size of the HikariCP connection pool */
+    private int connectionPoolSize = 10;
+    
+    /** Generate Flyway migrations (tables, FK indexes, constraints) and validate the schema instead of updating it */
+    private boolean databaseMigrations = false;
 
     // Constructors
     public SpringConfig() {}
@@ -62,4 +152,91 @@ public class SpringConfig {
 
     public ProjectStructure getProjectStructure() { return projectStructure; }
     public void setProjectStructure(ProjectStructure projectStructure) { this.projectStructure = projectStructure; }
+
+    public boolean isPaginationEnabled() { return paginationEnabled; }
+    public void setPaginationEnabled(boolean paginationEnabled) { this.paginationEnabled = paginationEnabled; }
+
+    public boolean isKeysetPagination() { return keysetPagination; }
+    public void setKeysetPagination(boolean keysetPagination) { this.keysetPagination = keysetPagination; }
+
+    public int getDefaultPageSize() { return defaultPageSize; }
+    public void setDefaultPageSize(int defaultPageSize) { this.defaultPageSize = defaultPageSize; }
+
+    public int getMaxPageSize() { return maxPageSize; }
+    public void setMaxPageSize(int maxPageSize) { this.maxPageSize = maxPageSize; }
+
+    public int getFetchBatchSize() { return fetchBatchSize; }
+    public void setFetchBatchSize(int fetchBatchSize) { this.fetchBatchSize = fetchBatchSize; }
+
+    public boolean isCacheEnabled() { return cacheEnabled; }
+    public void setCacheEnabled(boolean cacheEnabled) { this.cacheEnabled = cacheEnabled; }
+
+    public long getCacheTtlSeconds() { return cacheTtlSeconds; }
+    public void setCacheTtlSeconds(long cacheTtlSeconds) { this.cacheTtlSeconds = cacheTtlSeconds; }
+
+    public long getCacheMaxSize() { return cacheMaxSize; }
+    public void setCacheMaxSize(long cacheMaxSize) { this.cacheMaxSize = cacheMaxSize; }
+
+    public Map<String, EntityCacheConfig> getEntityCaches() { return entityCaches; }
+    public void setEntityCaches(Map<String, EntityCacheConfig> entityCaches) { this.entityCaches = entityCaches; }
+
+    public boolean isBulkWrites() { return bulkWrites; }
+    public void setBulkWrites(boolean bulkWrites) { this.bulkWrites = bulkWrites; }
+
+    public int getJdbcBatchSize() { return jdbcBatchSize; }
+    public void setJdbcBatchSize(int jdbcBatchSize) { this.jdbcBatchSize = jdbcBatchSize; }
+
+    public boolean isDatabaseMigrations() { return databaseMigrations; }
+    public void setDatabaseMigrations(boolean databaseMigrations) { this.databaseMigrations = databaseMigrations; }
+
+    public String getRuntimeProfile() { return runtimeProfile; }
+    public void setRuntimeProfile(String runtimeProfile) { this.runtimeProfile = runtimeProfile; }
+
+    public int getConnectionPoolSize() { return connectionPoolSize; }
+    public void setConnectionPoolSize(int connectionPoolSize) { this.connectionPoolSize = connectionPoolSize; }
+
+    public boolean isReactive() { return reactive; }
+    public void setReactive(boolean reactive) { this.reactive = reactive; }
+
+    public boolean isNativeImage() { return nativeImage; }
+    public void setNativeImage(boolean nativeImage) { this.nativeImage = nativeImage; }
+
+    public boolean isClassDataSharing() { return classDataSharing; }
+    public void setClassDataSharing(boolean classDataSharing) { this.classDataSharing = classDataSharing; }
+
+    public boolean isJlinkRuntime() { return jlinkRuntime; }
+    public void setJlinkRuntime(boolean jlinkRuntime) { this.jlinkRuntime = jlinkRuntime; }
+
+    public int getMaxRamPercentage() { return maxRamPercentage; }
+    public void setMaxRamPercentage(int maxRamPercentage) { this.maxRamPercentage = maxRamPercentage; }
+
+    public boolean isObservability() { return observability; }
+    public void setObservability(boolean observability) { this.observability = observability; }
+
+    public boolean isStreamingExport() { return streamingExport; }
+    public void setStreamingExport(boolean streamingExport) { this.streamingExport = streamingExport; }
+
+    public int getStreamFetchSize() { return streamFetchSize; }
+    public void setStreamFetchSize(int streamFetchSize) { this.streamFetchSize = streamFetchSize; }
+
+    public boolean isStreamingImport() { return streamingImport; }
+    public void setStreamingImport(boolean streamingImport) { this.streamingImport = streamingImport; }
+
+    public int getImportChunkSize() { return importChunkSize; }
+    public void setImportChunkSize(int importChunkSize) { this.importChunkSize = importChunkSize; }
+
+    public boolean isOptimisticLocking() { return optimisticLocking; }
+    public void setOptimisticLocking(boolean optimisticLocking) { this.optimisticLocking = optimisticLocking; }
+
+    public boolean isSparseFieldsets() { return sparseFieldsets; }
+    public void setSparseFieldsets(boolean sparseFieldsets) { this.sparseFieldsets = sparseFieldsets; }
+
+    public boolean isHttpTuning() { return httpTuning; }
+    public void setHttpTuning(boolean httpTuning) { this.httpTuning = httpTuning; }
+
+    public boolean isReadReplica() { return readReplica; }
+    public void setReadReplica(boolean readReplica) { this.readReplica = readReplica; }
+
+    public boolean isFilterEndpoints() { return filterEndpoints; }
+    public void setFilterEndpoints(boolean filterEndpoints) { this.filterEndpoints = filterEndpoints; }
 }
@@ -0,0 +1,310 @@
+package com.firas.generator.service;
+
+import com.firas.generator.model.ProjectRequest;
+import com.firas.generator.model.Table;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admission control for project generation requests.
+ *
+ * Limits how many generations run at once and how much memory they may reserve
+ * together. Requests that cannot start immediately wait in a bounded priority
+ * queue where IDE previews are always served before full downloads. When the
+ * queue is full, or a request waits longer than the configured timeout, a
+ * {@link GenerationRejectedException} is thrown so the caller can answer with
+ * HTTP 429 and a Retry-After header. A preview arriving at a full queue takes the
+ * place of the newest queued download instead, so downloads never lock previews out.
+ *
+ * The memory reserved by a request is estimated from its table and column counts.
+ * A request larger than the whole budget is still admitted, but only when nothing
+ * else is running.
+ *
+ * Exported metrics:
+ * - generator.admission.queue.depth: requests currently waiting
+ * - generator.admission.active: generations currently running
+ * - generator.admission.memory.reserved: estimated bytes reserved by running generations
+ * - generator.admission.wait: time spent in the queue, tagged by kind
+ * - generator.admission.rejected: rejected requests, tagged by kind and reason
+ *   (queue_full, evicted, timeout, interrupted)
+ *
+ * @author Firas Baklouti
+ * @version 1.0
+ * @since 2025-12-07
+ */
+@Service
+public class GenerationAdmissionService {
+
+    /** Estimated baseline cost of any generation (pom, main class, config files) */
+    private static final long BASE_COST_BYTES = 256 * 1024;
+
+    /** Estimated cost per table (entity, repository, service, controller, tests) */
+    private static final long TABLE_COST_BYTES = 64 * 1024;
+
+    /** Estimated cost per column across all files of its table */
+    private static final long COLUMN_COST_BYTES = 4 * 1024;
+
+    /**
+     * Kind of generation request; lower ordinal means higher priority.
+     */
+    public enum Kind {
+        /** Interactive IDE preview */
+        PREVIEW,
+        /** Full ZIP download */
+        DOWNLOAD
+    }
+
+    private final int maxConcurrent;
+    private final int maxQueueSize;
+    private final long memoryBudgetBytes;
+    private final long queueTimeoutMillis;
+    private final long retryAfterSeconds;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition stateChanged = lock.newCondition();
+    private final PriorityQueue<Ticket> queue = new PriorityQueue<>(
+            Comparator.comparing((Ticket ticket) -> ticket.kind).thenComparingLong(ticket -> ticket.sequence));
+
+    private long nextSequence;
+    private int active;
+    private long reservedBytes;
+
+    private final MeterRegistry meterRegistry;
+
+    public GenerationAdmissionService(
+            MeterRegistry meterRegistry,
+            @Value("${generator.admission.max-concurrent:4}") int maxConcurrent,
+            @Value("${generator.admission.max-queue:32}") int maxQueueSize,
+            @Value("${generator.admission.memory-budget-mb:256}") long memoryBudgetMb,
+            @Value("${generator.admission.queue-timeout-ms:10000}") long queueTimeoutMillis,
+            @Value("${generator.admission.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxQueueSize = Math.max(0, maxQueueSize);
+        this.memoryBudgetBytes = Math.max(1, memoryBudgetMb) * 1024 * 1024;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        Gauge.builder("generator.admission.queue.depth", this, GenerationAdmissionService::getQueueDepth)
+                .description("Generation requests waiting for admission")
+                .register(meterRegistry);
+        Gauge.builder("generator.admission.active", this, GenerationAdmissionService::getActive)
+                .description("Generation requests currently running")
+                .register(meterRegistry);
+        Gauge.builder("generator.admission.memory.reserved", this, GenerationAdmissionService::getReservedBytes)
+                .description("Estimated memory reserved by running generations")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Waits until the request may run and reserves its share of the budget.
+     *
+     * @param request The project request to admit
+     * @param kind Whether the request is a preview or a download
+     * @return Permit that must be closed once the generation is finished
+     * @throws GenerationRejectedException If the queue is full or the wait times out
+     */
+    public Permit acquire(ProjectRequest request, Kind kind) {
+        long cost = Math.min(estimateCost(request), memoryBudgetBytes);
+        long start = System.nanoTime();
+
+        lock.lock();
+        try {
+            if (queue.isEmpty() && canRun(cost)) {
+                return admit(kind, cost, start);
+            }
+            if (queue.size() >= maxQueueSize && !evictNewestDownload(kind)) {
+                throw reject(kind, "queue_full", "Generation queue is full");
+            }
+
+            Ticket ticket = new Ticket(kind, nextSequence++);
+            queue.add(ticket);
+            try {
+                long remaining = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+                while (queue.peek() != ticket || !canRun(cost)) {
+                    if (ticket.evicted) {
+                        throw reject(kind, "evicted", "Generation queue is full");
+                    }
+                    if (remaining <= 0) {
+                        throw reject(kind, "timeout", "Timed out waiting for a generation slot");
+                    }
+                    remaining = stateChanged.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject(kind, "interrupted", "Interrupted while waiting for a generation slot");
+            } finally {
+                queue.remove(ticket);
+                // The head changed, let the next waiter re-check
+                stateChanged.signalAll();
+            }
+            return admit(kind, cost, start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Estimates the memory a generation needs from its table and column counts.
+     *
+     * @param request The project request
+     * @return Estimated cost in bytes
+     */
+    long estimateCost(ProjectRequest request) {
+        long cost = BASE_COST_BYTES;
+        if (request.getTables() != null) {
+            for (Table table : request.getTables()) {
+                cost += TABLE_COST_BYTES;
+                if (table.getColumns() != null) {
+                    cost += (long) table.getColumns().size() * COLUMN_COST_BYTES;
+                }
+            }
+        }
+        return cost;
+    }
+
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getActive() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getReservedBytes() {
+        lock.lock();
+        try {
+            return reservedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ==================== Internal ====================
+
+    /**
+     * Whether a request of the given cost fits now. Must be called with the lock held.
+     */
+    private boolean canRun(long cost) {
+        if (active == 0) {
+            return true;
+        }
+        return active < maxConcurrent && reservedBytes + cost <= memoryBudgetBytes;
+    }
+
+    /**
+     * Makes room for a preview by evicting the most recently queued download, whose
+     * waiter is then rejected. Must be called with the lock held.
+     *
+     * @return Whether a place was freed
+     */
+    private boolean evictNewestDownload(Kind arriving) {
+        if (arriving != Kind.PREVIEW) {
+            return false;
+        }
+        Ticket newest = null;
+        for (Ticket ticket : queue) {
+            if (ticket.kind == Kind.DOWNLOAD && (newest == null || ticket.sequence > newest.sequence)) {
+                newest = ticket;
+            }
+        }
+        if (newest == null) {
+            return false;
+        }
+        queue.remove(newest);
+        newest.evicted = true;
+        stateChanged.signalAll();
+        return true;
+    }
+
+    /**
+     * Reserves resources for an admitted request. Must be called with the lock held.
+     */
+    private Permit admit(Kind kind, long cost, long start) {
+        active++;
+        reservedBytes += cost;
+        Timer.builder("generator.admission.wait")
+                .description("Time spent waiting for admission")
+                .tag("kind", kind.name().toLowerCase())
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return new Permit(cost);
+    }
+
+    private GenerationRejectedException reject(Kind kind, String reason, String message) {
+        Counter.builder("generator.admission.rejected")
+                .description("Generation requests rejected by admission control")
+                .tag("kind", kind.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return new GenerationRejectedException(message, retryAfterSeconds);
+    }
+
+    private void release(long cost) {
+        lock.lock();
+        try {
+            active--;
+            reservedBytes -= cost;
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Position of a waiting request in the priority queue.
+     */
+    private static final class Ticket {
+        private final Kind kind;
+        private final long sequence;
+        private boolean evicted;
+
+        private Ticket(Kind kind, long sequence) {
+            this.kind = kind;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Resources held by an admitted generation; closing it releases them.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final long cost;
+        private boolean released;
+
+        private Permit(long cost) {
+            this.cost = cost;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!released) {
+                released = true;
+                release(cost);
+            }
+        }
+    }
+}
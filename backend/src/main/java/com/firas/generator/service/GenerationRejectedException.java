@@ -0,0 +1,25 @@
+package com.firas.generator.service;
+
+/**
+ * Thrown when a generation request cannot be admitted because the generator is saturated.
+ *
+ * Carries the number of seconds the client should wait before retrying, which the
+ * controller returns as a {@code Retry-After} header with HTTP 429.
+ *
+ * @author Firas Baklouti
+ * @version 1.0
+ * @since 2025-12-07
+ */
+public class GenerationRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public GenerationRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -154,6 +154,7 @@ public class GoogleADKProvider implements AIProvider {
                 + "   - MANY_TO_ONE: many sourceTable records reference one targetTable\n"
                 + "   - For bidirectional relationships, use mappedBy appropriately\n"
                 + "   - For MANY_TO_MANY, set joinTable to the join table name\n"
+                + "   - For MANY_TO_MANY, sourceColumn and targetColumn are the join table columns referencing sourceTable and targetTable\n"
                 + "4. For foreign keys:\n"
                 + "   - Set foreignKey: true\n"
                 + "   - Set referencedTable and referencedColumn\n"
@@ -3,10 +3,10 @@ package com.firas.generator.stack;
 import com.firas.generator.model.FilePreview;
 import com.firas.generator.model.ProjectRequest;
 import com.firas.generator.service.TemplateService;
+import com.firas.generator.util.ZipFileSink;
 import com.firas.generator.util.ZipUtils;
 
 import java.io.*;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
 
@@ -18,7 +18,7 @@ import java.util.*;
  * 
  * Common functionality includes:
  * - Project structure creation workflow
- * - ZIP file generation
+ * - ZIP file generation (streamed through a ZipFileSink)
  * - Type mapping application
  * - File preview reading
  * 
@@ -50,35 +50,44 @@ public abstract class AbstractStackProvider implements StackProvider {
      */
     @Override
     public List<FilePreview> generateProject(ProjectRequest request) throws IOException {
+        FilePreviewSink sink = new FilePreviewSink();
+        generateProject(request, sink);
+        return sink.getFiles();
+    }
+    
+    /**
+     * Template Method: runs the generation workflow, writing every file to the sink.
+     */
+    protected void generateProject(ProjectRequest request, FileSink sink) throws IOException {
         // Apply type mappings to all columns
         applyTypeMappings(request);
         
-        List<FilePreview> files = new ArrayList<>();
-        
         // Step 1: Create project structure and base files
-        files.addAll(createProjectStructure(request));
+        for (FilePreview file : createProjectStructure(request)) {
+            sink.write(file);
+        }
         
         // Step 2: Generate build configuration
         FilePreview buildConfig = generateBuildConfig(request);
         if (buildConfig != null) {
-            files.add(buildConfig);
+            sink.write(buildConfig);
         }
         
         // Step 3: Generate main entry point
         FilePreview mainFile = generateMainFile(request);
         if (mainFile != null) {
-            files.add(mainFile);
+            sink.write(mainFile);
         }
         
         // Step 4: Generate configuration files
-        files.addAll(generateConfigFiles(request));
+        for (FilePreview file : generateConfigFiles(request)) {
+            sink.write(file);
+        }
         
         // Step 5: Generate CRUD code if tables are provided
         if (hasTables(request)) {
-            files.addAll(getCodeGenerator().generateAllCrud(request));
+            getCodeGenerator().generateAllCrud(request, sink);
         }
-        
-        return files;
     }
     
     /**
@@ -87,8 +96,19 @@ public abstract class AbstractStackProvider implements StackProvider {
      */
     @Override
     public byte[] generateProjectZip(ProjectRequest request) throws IOException {
-        List<FilePreview> files = generateProject(request);
-        return createZipFromFiles(files, getProjectName(request));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generateProjectZip(request, out);
+        return out.toByteArray();
+    }
+    
+    /**
+     * Streams the project ZIP, rendering each file straight into its ZIP entry.
+     */
+    @Override
+    public void generateProjectZip(ProjectRequest request, OutputStream out) throws IOException {
+        try (ZipFileSink sink = new ZipFileSink(out, getProjectName(request))) {
+            generateProject(request, sink);
+        }
     }
     
     // ==================== Abstract Methods ====================
@@ -132,24 +152,13 @@ public abstract class AbstractStackProvider implements StackProvider {
      * Creates a ZIP file from the list of file previews.
      */
     protected byte[] createZipFromFiles(List<FilePreview> files, String projectName) throws IOException {
-        Path tempDir = Files.createTempDirectory("gen_" + projectName);
-        Path projectDir = tempDir.resolve(projectName);
-        Files.createDirectories(projectDir);
-        
-        try {
-            // Write all files to temp directory
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipFileSink sink = new ZipFileSink(out, projectName)) {
             for (FilePreview file : files) {
-                Path filePath = projectDir.resolve(file.getPath());
-                Files.createDirectories(filePath.getParent());
-                Files.writeString(filePath, file.getContent(), StandardCharsets.UTF_8);
+                sink.write(file);
             }
-            
-            // Create ZIP
-            return zipUtils.zipDirectory(projectDir.toFile());
-        } finally {
-            // Cleanup temp directory
-            deleteDirectory(tempDir);
         }
+        return out.toByteArray();
     }
     
     /**
@@ -4,6 +4,7 @@ import com.firas.generator.model.FilePreview;
 import com.firas.generator.model.ProjectRequest;
 import com.firas.generator.model.Table;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -17,8 +18,12 @@ import java.util.List;
  * This abstraction enables the Template Method pattern in AbstractStackProvider,
  * where the generation workflow is fixed but individual file generation is delegated.
  * 
+ * Every generation method also has a sink-based variant that renders the file
+ * straight into a {@link FileSink}. The defaults fall back to the String-based
+ * methods; stacks override them to avoid building the content in memory.
+ * 
  * @author Firas Baklouti
- * @version 1.0
+ * @version 1.1
  * @since 2025-12-07
  */
 public interface CodeGenerator {
@@ -92,6 +97,80 @@ public interface CodeGenerator {
      */
     FilePreview generateMapper(Table table, String packageName);
     
+    // ==================== Sink-Based Generation ====================
+    
+    /**
+     * Renders the entity/model class for the given table into the sink.
+     * 
+     * @param table The table metadata
+     * @param packageName The base package/module name
+     * @param sink Destination for the generated file
+     * @throws IOException If the file cannot be written to the sink
+     */
+    default void generateEntity(Table table, String packageName, FileSink sink) throws IOException {
+        sink.write(generateEntity(table, packageName));
+    }
+    
+    /**
+     * Renders the repository/data access class for the given table into the sink.
+     * 
+     * @param table The table metadata
+     * @param packageName The base package/module name
+     * @param sink Destination for the generated file
+     * @throws IOException If the file cannot be written to the sink
+     */
+    default void generateRepository(Table table, String packageName, FileSink sink) throws IOException {
+        sink.write(generateRepository(table, packageName));
+    }
+    
+    /**
+     * Renders the service/business logic class for the given table into the sink.
+     * 
+     * @param table The table metadata
+     * @param packageName The base package/module name
+     * @param sink Destination for the generated file
+     * @throws IOException If the file cannot be written to the sink
+     */
+    default void generateService(Table table, String packageName, FileSink sink) throws IOException {
+        sink.write(generateService(table, packageName));
+    }
+    
+    /**
+     * Renders the controller/router for the given table into the sink.
+     * 
+     * @param table The table metadata
+     * @param packageName The base package/module name
+     * @param sink Destination for the generated file
+     * @throws IOException If the file cannot be written to the sink
+     */
+    default void generateController(Table table, String packageName, FileSink sink) throws IOException {
+        sink.write(generateController(table, packageName));
+    }
+    
+    /**
+     * Renders the DTO class for the given table into the sink.
+     * 
+     * @param table The table metadata
+     * @param packageName The base package/module name
+     * @param sink Destination for the generated file
+     * @throws IOException If the file cannot be written to the sink
+     */
+    default void generateDto(Table table, String packageName, FileSink sink) throws IOException {
+        sink.write(generateDto(table, packageName));
+    }
+    
+    /**
+     * Renders the entity-DTO mapper for the given table into the sink.
+     * 
+     * @param table The table metadata
+     * @param packageName The base package/module name
+     * @param sink Destination for the generated file
+     * @throws IOException If the file cannot be written to the sink
+     */
+    default void generateMapper(Table table, String packageName, FileSink sink) throws IOException {
+        sink.write(generateMapper(table, packageName));
+    }
+    
     /**
      * Generates all CRUD code files for the given tables based on request flags.
      * 
@@ -135,4 +214,45 @@ public interface CodeGenerator {
         
         return files;
     }
+    
+    /**
+     * Renders all CRUD code files for the given tables into the sink.
+     * 
+     * Same selection rules as {@link #generateAllCrud(ProjectRequest)}, but each file
+     * is written to the sink as soon as it is rendered.
+     * 
+     * @param request The project request containing tables and generation flags
+     * @param sink Destination for the generated files
+     * @throws IOException If a file cannot be written to the sink
+     */
+    default void generateAllCrud(ProjectRequest request, FileSink sink) throws IOException {
+        if (request.getTables() == null || request.getTables().isEmpty()) {
+            return;
+        }
+        
+        for (Table table : request.getTables()) {
+            if (table.isJoinTable()) {
+                continue; // Skip join tables
+            }
+            
+            if (request.isIncludeEntity()) {
+                generateEntity(table, request.getPackageName(), sink);
+            }
+            if (request.isIncludeRepository()) {
+                generateRepository(table, request.getPackageName(), sink);
+            }
+            if (request.isIncludeService()) {
+                generateService(table, request.getPackageName(), sink);
+            }
+            if (request.isIncludeController()) {
+                generateController(table, request.getPackageName(), sink);
+            }
+            if (request.isIncludeDto()) {
+                generateDto(table, request.getPackageName(), sink);
+            }
+            if (request.isIncludeMapper()) {
+                generateMapper(table, request.getPackageName(), sink);
+            }
+        }
+    }
 }
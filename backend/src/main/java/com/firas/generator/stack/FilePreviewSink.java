@@ -0,0 +1,45 @@
+package com.firas.generator.stack;
+
+import com.firas.generator.model.FilePreview;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FileSink that collects generated files as FilePreview objects.
+ *
+ * Used for the IDE preview, where every file has to be returned to the
+ * frontend as a String anyway.
+ *
+ * @author Firas Baklouti
+ * @version 1.0
+ * @since 2025-12-07
+ */
+public class FilePreviewSink implements FileSink {
+
+    private final List<FilePreview> files = new ArrayList<>();
+
+    @Override
+    public Writer openFile(String path, String language) {
+        return new StringWriter() {
+            private boolean closed;
+
+            @Override
+            public void close() {
+                if (!closed) {
+                    closed = true;
+                    files.add(new FilePreview(path, toString(), language));
+                }
+            }
+        };
+    }
+
+    /**
+     * @return All files written so far, in write order
+     */
+    public List<FilePreview> getFiles() {
+        return files;
+    }
+}
@@ -0,0 +1,49 @@
+package com.firas.generator.stack;
+
+import com.firas.generator.model.FilePreview;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Destination for generated project files.
+ *
+ * Code generators render each file straight into the Writer returned by
+ * {@link #openFile(String, String)} instead of building an intermediate String.
+ * Closing the writer completes the file. Implementations decide where the
+ * content ends up: in-memory FilePreview objects for the IDE preview, or an
+ * open ZIP entry for downloads.
+ *
+ * Files must be written one at a time: a writer has to be closed before the
+ * next file is opened.
+ *
+ * @author Firas Baklouti
+ * @version 1.0
+ * @since 2025-12-07
+ */
+public interface FileSink {
+
+    /**
+     * Opens a new file in the sink.
+     *
+     * @param path Relative file path within the project (e.g., "src/main/java/com/example/Demo.java")
+     * @param language Language used for syntax highlighting (e.g., "java", "xml")
+     * @return Writer receiving the file content; closing it completes the file
+     * @throws IOException If the file cannot be opened
+     */
+    Writer openFile(String path, String language) throws IOException;
+
+    /**
+     * Writes an already generated file to the sink.
+     *
+     * @param file The file preview to copy into the sink
+     * @throws IOException If the file cannot be written
+     */
+    default void write(FilePreview file) throws IOException {
+        try (Writer writer = openFile(file.getPath(), file.getLanguage())) {
+            if (file.getContent() != null) {
+                writer.write(file.getContent());
+            }
+        }
+    }
+}
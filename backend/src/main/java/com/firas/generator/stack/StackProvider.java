@@ -4,6 +4,7 @@ import com.firas.generator.model.FilePreview;
 import com.firas.generator.model.ProjectRequest;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -57,6 +58,21 @@ public interface StackProvider {
      */
     byte[] generateProjectZip(ProjectRequest request) throws IOException;
     
+    /**
+     * Generates the project and streams it as a ZIP file to the given output stream.
+     * 
+     * Providers that render through a {@link FileSink} override this so that file
+     * contents go straight into the ZIP entries without intermediate Strings.
+     * The stream is not closed.
+     * 
+     * @param request The project configuration
+     * @param out Stream receiving the ZIP archive
+     * @throws IOException If an error occurs during generation or ZIP creation
+     */
+    default void generateProjectZip(ProjectRequest request, OutputStream out) throws IOException {
+        out.write(generateProjectZip(request));
+    }
+    
     // ==================== Sub-Components ====================
     
     /**
@@ -1,6 +1,7 @@
 package com.firas.generator.stack.spring;
 
 import com.firas.generator.model.FilePreview;
+import com.firas.generator.model.ProjectRequest;
 import com.firas.generator.model.Table;
 import com.firas.generator.model.config.ProjectStructure;
 import com.firas.generator.model.config.SecurityConfig;
@@ -8,11 +9,18 @@ import com.firas.generator.model.config.SecurityRule;
 import com.firas.generator.model.config.SpringConfig;
 import com.firas.generator.service.TemplateService;
 import com.firas.generator.stack.CodeGenerator;
+import com.firas.generator.stack.FilePreviewSink;
+import com.firas.generator.stack.FileSink;
+import org.apache.commons.io.function.IOConsumer;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -28,7 +36,7 @@ import java.util.stream.Collectors;
  * - HEXAGONAL: Hexagonal/Clean Architecture (domain/model/, infrastructure/adapter/)
  * 
  * @author Firas Baklouti
- * @version 1.1
+ * @version 1.2
  * @since 2025-12-07
  */
 @Component
@@ -36,6 +44,10 @@ public class SpringCodeGenerator implements CodeGenerator {
     
     private static final String TEMPLATE_DIR = "spring/";
     
+    /** Templates replaced by their WebFlux + R2DBC variant in reactive projects */
+    private static final Set<String> REACTIVE_TEMPLATES = Set.of(
+            "Entity.ftl", "Repository.ftl", "Service.ftl", "Controller.ftl", "ControllerTest.ftl");
+    
     private final TemplateService templateService;
     
     // Security configuration for controller generation
@@ -56,6 +68,13 @@ public class SpringCodeGenerator implements CodeGenerator {
         this.springConfig = springConfig;
     }
     
+    /**
+     * Gets the current Spring configuration, or the defaults when none was set.
+     */
+    private SpringConfig getSpringConfig() {
+        return springConfig != null ? springConfig : new SpringConfig();
+    }
+    
     /**
      * Gets the current project structure from springConfig, or LAYERED as default.
      */
@@ -154,43 +173,121 @@ public class SpringCodeGenerator implements CodeGenerator {
         };
     }
     
+    /**
+     * Renders every selected file of a table into the sink.
+     * 
+     * The shared {@link SpringTableModel} is built once and reused by all templates
+     * of the table instead of being recomputed for each file.
+     * 
+     * @param table The table metadata
+     * @param request Project request holding the include flags and package name
+     * @param sink Destination of the generated files
+     * @throws IOException If a file cannot be written
+     */
+    public void generateTableFiles(Table table, ProjectRequest request, FileSink sink) throws IOException {
+        SpringTableModel tableModel = SpringTableModel.of(table);
+        String packageName = request.getPackageName();
+        
+        if (request.isIncludeEntity()) {
+            generateEntity(tableModel, packageName, request, sink);
+        }
+        if (request.isIncludeRepository()) {
+            generateRepository(tableModel, packageName, request, sink);
+        }
+        if (request.isIncludeService()) {
+            generateService(tableModel, packageName, request, sink);
+        }
+        if (request.isIncludeController()) {
+            generateController(tableModel, packageName, request, sink);
+        }
+        // Mappers convert to the DTO and caches hold DTOs, so both bring the DTO along
+        if (isDtoEnabled(request)) {
+            generateDto(tableModel, packageName, request, sink);
+        }
+        // DTO projections, mappers and JPA repository tests only exist in the servlet flavour
+        boolean servlet = !isReactive();
+        if (servlet && request.isIncludeMapper()) {
+            generateMapper(tableModel, packageName, request, sink);
+        }
+        
+        // Generate tests if enabled
+        if (request.isIncludeTests()) {
+            if (servlet && request.isIncludeRepository()) {
+                generateRepositoryTest(tableModel, packageName, request, sink);
+            }
+            if (request.isIncludeController()) {
+                generateControllerTest(tableModel, packageName, request, sink);
+            }
+            if (servlet && request.isIncludeMapper()) {
+                generateMapperBenchmark(tableModel, packageName, request, sink);
+            }
+        }
+    }
+    
     @Override
     public FilePreview generateEntity(Table table, String packageName) {
-        String effectivePackage = getEffectivePackage(packageName, table, "entity");
-        Map<String, Object> model = createModel(table, packageName, effectivePackage, "entity");
-        
-        String content = templateService.processTemplateToString(TEMPLATE_DIR + "Entity.ftl", model);
-        String path = generatePath(packageName, table, "entity", "", false);
+        return collect(sink -> generateEntity(table, packageName, sink));
+    }
+    
+    @Override
+    public void generateEntity(Table table, String packageName, FileSink sink) throws IOException {
+        generateEntity(SpringTableModel.of(table), packageName, null, sink);
+    }
+    
+    private void generateEntity(SpringTableModel tableModel, String packageName, ProjectRequest request, FileSink sink) throws IOException {
+        Map<String, Object> model = createModel(tableModel, packageName, "entity", request);
         
-        return new FilePreview(path, content, "java");
+        String path = generatePath(packageName, tableModel.getTable(), "entity", "", false);
+        render("Entity.ftl", model, path, sink);
     }
     
     @Override
     public FilePreview generateRepository(Table table, String packageName) {
-        String effectivePackage = getEffectivePackage(packageName, table, "repository");
-        Map<String, Object> model = createModel(table, packageName, effectivePackage, "repository");
-        
-        String content = templateService.processTemplateToString(TEMPLATE_DIR + "Repository.ftl", model);
-        String path = generatePath(packageName, table, "repository", "Repository", false);
+        return collect(sink -> generateRepository(table, packageName, sink));
+    }
+    
+    @Override
+    public void generateRepository(Table table, String packageName, FileSink sink) throws IOException {
+        generateRepository(SpringTableModel.of(table), packageName, null, sink);
+    }
+    
+    private void generateRepository(SpringTableModel tableModel, String packageName, ProjectRequest request, FileSink sink) throws IOException {
+        Map<String, Object> model = createModel(tableModel, packageName, "repository", request);
         
-        return new FilePreview(path, content, "java");
+        String path = generatePath(packageName, tableModel.getTable(), "repository", "Repository", false);
+        render("Repository.ftl", model, path, sink);
     }
     
     @Override
     public FilePreview generateService(Table table, String packageName) {
-        String effectivePackage = getEffectivePackage(packageName, table, "service");
-        Map<String, Object> model = createModel(table, packageName, effectivePackage, "service");
-        
-        String content = templateService.processTemplateToString(TEMPLATE_DIR + "Service.ftl", model);
-        String path = generatePath(packageName, table, "service", "Service", false);
+        return collect(sink -> generateService(table, packageName, sink));
+    }
+    
+    @Override
+    public void generateService(Table table, String packageName, FileSink sink) throws IOException {
+        generateService(SpringTableModel.of(table), packageName, null, sink);
+    }
+    
+    private void generateService(SpringTableModel tableModel, String packageName, ProjectRequest request, FileSink sink) throws IOException {
+        Map<String, Object> model = createModel(tableModel, packageName, "service", request);
         
-        return new FilePreview(path, content, "java");
+        String path = generatePath(packageName, tableModel.getTable(), "service", "Service", false);
+        render("Service.ftl", model, path, sink);
     }
     
     @Override
     public FilePreview generateController(Table table, String packageName) {
-        String effectivePackage = getEffectivePackage(packageName, table, "controller");
-        Map<String, Object> model = createModel(table, packageName, effectivePackage, "controller");
+        return collect(sink -> generateController(table, packageName, sink));
+    }
+    
+    @Override
+    public void generateController(Table table, String packageName, FileSink sink) throws IOException {
+        generateController(SpringTableModel.of(table), packageName, null, sink);
+    }
+    
+    private void generateController(SpringTableModel tableModel, String packageName, ProjectRequest request, FileSink sink) throws IOException {
+        Table table = tableModel.getTable();
+        Map<String, Object> model = createModel(tableModel, packageName, "controller", request);
         
         // Add security configuration to controller model
         if (securityConfig != null && securityConfig.isEnabled()) {
@@ -210,84 +307,206 @@ public class SpringCodeGenerator implements CodeGenerator {
             model.put("securityEnabled", false);
         }
         
-        String content = templateService.processTemplateToString(TEMPLATE_DIR + "Controller.ftl", model);
         String path = generatePath(packageName, table, "controller", "Controller", false);
-        
-        return new FilePreview(path, content, "java");
+        render("Controller.ftl", model, path, sink);
     }
     
     @Override
     public FilePreview generateDto(Table table, String packageName) {
-        String effectivePackage = getEffectivePackage(packageName, table, "dto");
-        Map<String, Object> model = createModel(table, packageName, effectivePackage, "dto");
-        
-        // TODO: Add Dto.ftl template for Spring
-        String content = "// DTO for " + table.getClassName() + "\n// TODO: Implement DTO template";
-        String path = generatePath(packageName, table, "dto", "Dto", false);
+        return collect(sink -> generateDto(table, packageName, sink));
+    }
+    
+    @Override
+    public void generateDto(Table table, String packageName, FileSink sink) throws IOException {
+        generateDto(SpringTableModel.of(table), packageName, null, sink);
+    }
+    
+    private void generateDto(SpringTableModel tableModel, String packageName, ProjectRequest request, FileSink sink) throws IOException {
+        Map<String, Object> model = createModel(tableModel, packageName, "dto", request);
         
-        return new FilePreview(path, content, "java");
+        String path = generatePath(packageName, tableModel.getTable(), "dto", "Dto", false);
+        render("Dto.ftl", model, path, sink);
     }
     
     @Override
     public FilePreview generateMapper(Table table, String packageName) {
-        String effectivePackage = getEffectivePackage(packageName, table, "mapper");
-        Map<String, Object> model = createModel(table, packageName, effectivePackage, "mapper");
+        return collect(sink -> generateMapper(table, packageName, sink));
+    }
+    
+    @Override
+    public void generateMapper(Table table, String packageName, FileSink sink) throws IOException {
+        generateMapper(SpringTableModel.of(table), packageName, null, sink);
+    }
+    
+    private void generateMapper(SpringTableModel tableModel, String packageName, ProjectRequest request, FileSink sink) throws IOException {
+        Map<String, Object> model = createModel(tableModel, packageName, "mapper", request);
         
-        // TODO: Add Mapper.ftl template for Spring
-        String content = "// Mapper for " + table.getClassName() + "\n// TODO: Implement Mapper template";
-        String path = generatePath(packageName, table, "mapper", "Mapper", false);
+        String path = generatePath(packageName, tableModel.getTable(), "mapper", "Mapper", false);
+        render("Mapper.ftl", model, path, sink);
+    }
+    
+    /**
+     * Renders a JMH benchmark comparing the generated mapper with hand-written getter copying.
+     */
+    private void generateMapperBenchmark(SpringTableModel tableModel, String packageName, ProjectRequest request, FileSink sink) throws IOException {
+        Map<String, Object> model = createModel(tableModel, packageName, "mapper", request);
         
-        return new FilePreview(path, content, "java");
+        String path = generatePath(packageName, tableModel.getTable(), "mapper", "MapperBenchmark", true);
+        render("MapperBenchmark.ftl", model, path, sink);
     }
     
     /**
      * Generates a JUnit test for the repository layer.
      */
     public FilePreview generateRepositoryTest(Table table, String packageName) {
-        String effectivePackage = getEffectivePackage(packageName, table, "repository");
-        Map<String, Object> model = createModel(table, packageName, effectivePackage, "repository");
-        
-        String content = templateService.processTemplateToString(TEMPLATE_DIR + "RepositoryTest.ftl", model);
-        String path = generatePath(packageName, table, "repository", "RepositoryTest", true);
+        return collect(sink -> generateRepositoryTest(table, packageName, sink));
+    }
+    
+    /**
+     * Renders a JUnit test for the repository layer into the sink.
+     */
+    public void generateRepositoryTest(Table table, String packageName, FileSink sink) throws IOException {
+        generateRepositoryTest(SpringTableModel.of(table), packageName, null, sink);
+    }
+    
+    private void generateRepositoryTest(SpringTableModel tableModel, String packageName, ProjectRequest request, FileSink sink) throws IOException {
+        Map<String, Object> model = createModel(tableModel, packageName, "repository", request);
         
-        return new FilePreview(path, content, "java");
+        String path = generatePath(packageName, tableModel.getTable(), "repository", "RepositoryTest", true);
+        render("RepositoryTest.ftl", model, path, sink);
     }
     
     /**
      * Generates a JUnit test for the controller layer using MockMvc.
      */
     public FilePreview generateControllerTest(Table table, String packageName) {
-        String effectivePackage = getEffectivePackage(packageName, table, "controller");
-        Map<String, Object> model = createModel(table, packageName, effectivePackage, "controller");
-        
-        String content = templateService.processTemplateToString(TEMPLATE_DIR + "ControllerTest.ftl", model);
-        String path = generatePath(packageName, table, "controller", "ControllerTest", true);
+        return collect(sink -> generateControllerTest(table, packageName, sink));
+    }
+    
+    /**
+     * Renders a JUnit test for the controller layer into the sink.
+     */
+    public void generateControllerTest(Table table, String packageName, FileSink sink) throws IOException {
+        generateControllerTest(SpringTableModel.of(table), packageName, null, sink);
+    }
+    
+    private void generateControllerTest(SpringTableModel tableModel, String packageName, ProjectRequest request, FileSink sink) throws IOException {
+        Map<String, Object> model = createModel(tableModel, packageName, "controller", request);
         
-        return new FilePreview(path, content, "java");
+        String path = generatePath(packageName, tableModel.getTable(), "controller", "ControllerTest", true);
+        render("ControllerTest.ftl", model, path, sink);
+    }
+    
+    /**
+     * Renders a Java template straight into a new file of the sink.
+     * Reactive projects use the variant from the reactive/ template set when one exists.
+     */
+    private void render(String templateName, Map<String, Object> model, String path, FileSink sink) throws IOException {
+        String template = isReactive() && REACTIVE_TEMPLATES.contains(templateName)
+                ? TEMPLATE_DIR + "reactive/" + templateName
+                : TEMPLATE_DIR + templateName;
+        try (Writer writer = sink.openFile(path, "java")) {
+            templateService.processTemplate(template, model, writer);
+        }
     }
     
     /**
-     * Creates the template data model for a table with structure-aware package.
+     * Runs a sink-based generation step and returns the single file it produced.
+     */
+    private FilePreview collect(IOConsumer<FileSink> generation) {
+        FilePreviewSink sink = new FilePreviewSink();
+        try {
+            generation.accept(sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sink.getFiles().get(0);
+    }
+    
+    /**
+     * Whether DTOs are generated: requested directly, or needed by mappers or caching.
+     */
+    private boolean isDtoEnabled(ProjectRequest request) {
+        if (isReactive()) {
+            return false;
+        }
+        return request.isIncludeDto() || request.isIncludeMapper() || getSpringConfig().isCacheEnabled();
+    }
+    
+    private boolean isReactive() {
+        return isReactive(getSpringConfig(), securityConfig);
+    }
+    
+    /**
+     * Whether the project is generated with the WebFlux + R2DBC template set.
      * 
-     * @param table The table metadata
+     * The security templates are servlet-only, so a secured project always
+     * uses the servlet flavour.
+     * 
+     * @param config The effective Spring configuration
+     * @param security The security configuration, or null
+     * @return true if reactive generation is requested and security is disabled
+     */
+    static boolean isReactive(SpringConfig config, SecurityConfig security) {
+        return config.isReactive() && (security == null || !security.isEnabled());
+    }
+    
+    /**
+     * Whether generated entities use pooled sequence ids instead of identity columns.
+     * 
+     * Identity ids make Hibernate insert rows one by one to read back each key, which
+     * disables JDBC insert batching. Sequences avoid that on every dialect that has
+     * them; MySQL does not, so it keeps identity columns.
+     * 
+     * @param request The project request
+     * @param config The effective Spring configuration
+     * @return true if bulk writes or imports are enabled and the database supports sequences
+     */
+    static boolean usesSequenceIds(ProjectRequest request, SpringConfig config) {
+        // R2DBC reads generated keys back from identity columns
+        if (!batchesInserts(config) || request.getDatabaseType() == null
+                || isReactive(config, request.getSecurityConfig())) {
+            return false;
+        }
+        return switch (request.getDatabaseType().toLowerCase()) {
+            case "postgresql", "mariadb", "sqlserver", "h2" -> true;
+            default -> false;
+        };
+    }
+    
+    /**
+     * Whether the generated app inserts many rows at once (bulk endpoints or imports)
+     * and therefore needs JDBC batching.
+     */
+    static boolean batchesInserts(SpringConfig config) {
+        return config.isBulkWrites() || config.isStreamingImport();
+    }
+    
+    /**
+     * Creates the template data model for one file of a table.
+     * 
+     * Starts from the table's shared entries ("table", "tableModel" and metadata)
+     * and only adds what differs per file.
+     * 
+     * @param tableModel The shared view of the table
      * @param basePackageName The base package name from project configuration
-     * @param effectivePackage The effective package based on project structure
      * @param fileType The type of file being generated
+     * @param request The project request, or null when a single file is generated on its own
      * @return Model map for template processing
      */
-    private Map<String, Object> createModel(Table table, String basePackageName, String effectivePackage, String fileType) {
-        Map<String, Object> model = new HashMap<>();
-        model.put("table", table);
-        model.put("packageName", effectivePackage);
+    private Map<String, Object> createModel(SpringTableModel tableModel, String basePackageName, String fileType,
+                                            ProjectRequest request) {
+        Map<String, Object> model = new HashMap<>(tableModel.getBaseModel());
+        model.put("packageName", getEffectivePackage(basePackageName, tableModel.getTable(), fileType));
         model.put("basePackageName", basePackageName);
         model.put("projectStructure", getProjectStructure().getId());
-
-        if (table.getMetadata() != null) {
-            System.out.println("DEBUG: Table " + table.getName() + " has metadata: " + table.getMetadata());
-            model.putAll(table.getMetadata());
-        } else {
-            System.out.println("DEBUG: Table " + table.getName() + " has NULL metadata");
-        }
+        model.put("springConfig", getSpringConfig());
+        
+        // Layers generated alongside this file, so templates can use them
+        model.put("includeDto", request != null && isDtoEnabled(request));
+        model.put("includeMapper", request != null && request.isIncludeMapper());
+        model.put("includeService", request != null && request.isIncludeService());
+        model.put("sequenceIds", request != null && usesSequenceIds(request, getSpringConfig()));
         return model;
     }
 }
@@ -0,0 +1,425 @@
+package com.firas.generator.stack.spring;
+
+import com.firas.generator.model.Column;
+import com.firas.generator.model.Relationship;
+import com.firas.generator.model.RelationshipType;
+import com.firas.generator.model.Table;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dialect-specific DDL view of a project's tables, used by the Flyway migration templates.
+ *
+ * Column types keep the declared SQL type (length, precision, TEXT or BLOB) when Hibernate
+ * validates it against the column's Java type, and otherwise follow the Java type, so the
+ * schema matches what Hibernate expects when it validates the mappings
+ * ({@code spring.jpa.hibernate.ddl-auto=validate}).
+ *
+ * Besides the tables themselves it lists the indexes Hibernate never creates on its own:
+ * one per foreign key column, and the reverse (target, source) index of every join table,
+ * whose primary key already covers the (source, target) direction. Indexes are created
+ * before the foreign keys so MySQL reuses them instead of adding its own.
+ *
+ * Join tables that only exist as MANY_TO_MANY relationships (e.g., the injected
+ * principal-to-role link) and the dynamic RBAC role tables are added as well.
+ *
+ * @author Firas Baklouti
+ * @version 1.0
+ * @since 2025-12-07
+ */
+public final class SpringSchemaModel {
+
+    private final List<TableDef> tables;
+    private final List<SequenceDef> sequences;
+    private final List<IndexDef> indexes;
+    private final List<ForeignKeyDef> foreignKeys;
+
+    private SpringSchemaModel(List<TableDef> tables, List<SequenceDef> sequences,
+                              List<IndexDef> indexes, List<ForeignKeyDef> foreignKeys) {
+        this.tables = Collections.unmodifiableList(tables);
+        this.sequences = Collections.unmodifiableList(sequences);
+        this.indexes = Collections.unmodifiableList(indexes);
+        this.foreignKeys = Collections.unmodifiableList(foreignKeys);
+    }
+
+    /**
+     * Builds the schema of the generated entities.
+     *
+     * @param tables The project tables (with Java types already mapped and security changes applied)
+     * @param databaseType The target database (mysql when null)
+     * @param sequenceIds Whether entities use pooled sequences instead of identity columns
+     * @param sequenceIncrement Allocation size of the pooled sequences
+     * @param dynamicRbac Whether the dynamic RBAC role entity is generated
+     * @return Immutable schema view
+     */
+    public static SpringSchemaModel of(List<Table> tables, String databaseType, boolean sequenceIds,
+                                       int sequenceIncrement, boolean dynamicRbac) {
+        String dialect = databaseType != null ? databaseType.toLowerCase() : "mysql";
+
+        Map<String, TableDef> defs = new LinkedHashMap<>();
+        List<SequenceDef> sequences = new ArrayList<>();
+        List<IndexDef> indexes = new ArrayList<>();
+        List<ForeignKeyDef> foreignKeys = new ArrayList<>();
+
+        for (Table table : tables) {
+            List<Column> keyColumns = new ArrayList<>();
+            for (Column column : table.getColumns()) {
+                if (column.isPrimaryKey()) {
+                    keyColumns.add(column);
+                }
+            }
+            // Join tables are keyed by their two foreign keys even when the source declares no key
+            if (table.isJoinTable() && keyColumns.isEmpty()) {
+                for (Column column : table.getColumns()) {
+                    if (column.isForeignKey()) {
+                        keyColumns.add(column);
+                    }
+                }
+            }
+            Column generatedKey = !table.isJoinTable() && keyColumns.size() == 1 ? keyColumns.get(0) : null;
+            boolean sequenceKey = generatedKey != null && sequenceIds && isNumeric(generatedKey.getJavaType());
+
+            // Rows inserted outside JPA start at version 0
+            Object versionField = table.getMetadata() != null ? table.getMetadata().get("versionField") : null;
+
+            List<ColumnDef> columns = new ArrayList<>();
+            List<String> primaryKey = new ArrayList<>();
+            List<String> uniques = new ArrayList<>();
+            for (Column column : table.getColumns()) {
+                boolean key = keyColumns.contains(column);
+                boolean identity = column == generatedKey && !sequenceKey && isNumeric(column.getJavaType());
+                boolean version = column.getFieldName() != null && column.getFieldName().equals(versionField);
+                columns.add(new ColumnDef(column.getName(), sqlType(column, dialect),
+                        column.isNullable() && !key, identity ? identityClause(dialect) : version ? "default 0" : null));
+                if (key) {
+                    primaryKey.add(column.getName());
+                } else if (column.isUnique()) {
+                    uniques.add(column.getName());
+                }
+                if (column.isForeignKey() && column.getReferencedTable() != null) {
+                    foreignKeys.add(new ForeignKeyDef(table.getName(), column.getName(), column.getReferencedTable(),
+                            column.getReferencedColumn() != null ? column.getReferencedColumn() : "id"));
+                }
+            }
+            defs.put(table.getName().toLowerCase(), new TableDef(table.getName(), columns, primaryKey, uniques));
+
+            if (sequenceKey) {
+                sequences.add(new SequenceDef(table.getName() + "_seq", sequenceIncrement));
+            }
+            addForeignKeyIndexes(table.getName(), table.getColumns().stream()
+                    .filter(Column::isForeignKey).map(Column::getName).toList(), table.isJoinTable(), indexes);
+        }
+
+        if (dynamicRbac && !defs.containsKey("roles")) {
+            defs.put("roles", new TableDef("roles", List.of(
+                    new ColumnDef("id", sqlType("Long", dialect), false, identityClause(dialect)),
+                    new ColumnDef("name", sqlType("String", dialect), false, null),
+                    new ColumnDef("description", "varchar(500)", true, null),
+                    new ColumnDef("version", sqlType("Long", dialect), false, "default 0")),
+                    List.of("id"), List.of("name")));
+            defs.put("role_permissions", new TableDef("role_permissions", List.of(
+                    new ColumnDef("role_id", sqlType("Long", dialect), false, null),
+                    new ColumnDef("permission", sqlType("String", dialect), true, null)),
+                    List.of(), List.of()));
+            foreignKeys.add(new ForeignKeyDef("role_permissions", "role_id", "roles", "id"));
+            addForeignKeyIndexes("role_permissions", List.of("role_id"), false, indexes);
+        }
+
+        // Join tables declared only through an owning MANY_TO_MANY relationship
+        for (Table table : tables) {
+            if (table.getRelationships() == null) {
+                continue;
+            }
+            for (Relationship rel : table.getRelationships()) {
+                if (rel.getType() != RelationshipType.MANY_TO_MANY || rel.getJoinTable() == null
+                        || rel.getMappedBy() != null || defs.containsKey(rel.getJoinTable().toLowerCase())) {
+                    continue;
+                }
+                String sourceKey = keyColumn(tables, table.getName(), "id");
+                String targetKey = keyColumn(tables, rel.getTargetTable(), "id");
+                defs.put(rel.getJoinTable().toLowerCase(), new TableDef(rel.getJoinTable(), List.of(
+                        new ColumnDef(rel.getSourceColumn(), sqlType(keyType(tables, table.getName()), dialect), false, null),
+                        new ColumnDef(rel.getTargetColumn(), sqlType(keyType(tables, rel.getTargetTable()), dialect), false, null)),
+                        List.of(rel.getSourceColumn(), rel.getTargetColumn()), List.of()));
+                foreignKeys.add(new ForeignKeyDef(rel.getJoinTable(), rel.getSourceColumn(), table.getName(), sourceKey));
+                foreignKeys.add(new ForeignKeyDef(rel.getJoinTable(), rel.getTargetColumn(), rel.getTargetTable(), targetKey));
+                addForeignKeyIndexes(rel.getJoinTable(), List.of(rel.getSourceColumn(), rel.getTargetColumn()), true, indexes);
+            }
+        }
+
+        return new SpringSchemaModel(new ArrayList<>(defs.values()), sequences, indexes, foreignKeys);
+    }
+
+    /** @return Tables to create, with their columns, primary keys and unique constraints */
+    public List<TableDef> getTables() { return tables; }
+
+    /** @return Sequences backing pooled id generators */
+    public List<SequenceDef> getSequences() { return sequences; }
+
+    /** @return Indexes on foreign key columns and reverse join table indexes */
+    public List<IndexDef> getIndexes() { return indexes; }
+
+    /** @return Foreign key constraints, added after all tables and indexes exist */
+    public List<ForeignKeyDef> getForeignKeys() { return foreignKeys; }
+
+    /**
+     * Indexes the foreign key columns of a table. A join table's primary key already
+     * serves lookups by its first column, so it only gets the reverse composite index.
+     */
+    private static void addForeignKeyIndexes(String table, List<String> columns, boolean joinTable, List<IndexDef> indexes) {
+        if (joinTable && columns.size() == 2) {
+            indexes.add(new IndexDef(table, List.of(columns.get(1), columns.get(0))));
+            return;
+        }
+        for (String column : columns) {
+            indexes.add(new IndexDef(table, List.of(column)));
+        }
+    }
+
+    private static Column findKey(List<Table> tables, String tableName) {
+        for (Table table : tables) {
+            if (table.getName().equalsIgnoreCase(tableName)) {
+                for (Column column : table.getColumns()) {
+                    if (column.isPrimaryKey()) {
+                        return column;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String keyColumn(List<Table> tables, String tableName, String fallback) {
+        Column key = findKey(tables, tableName);
+        return key != null ? key.getName() : fallback;
+    }
+
+    private static String keyType(List<Table> tables, String tableName) {
+        Column key = findKey(tables, tableName);
+        return key != null && key.getJavaType() != null ? key.getJavaType() : "Long";
+    }
+
+    private static boolean isNumeric(String javaType) {
+        String type = simpleName(javaType);
+        return "Long".equals(type) || "Integer".equals(type);
+    }
+
+    private static String simpleName(String javaType) {
+        if (javaType == null) {
+            return "String";
+        }
+        return javaType.substring(javaType.lastIndexOf('.') + 1);
+    }
+
+    private static String identityClause(String dialect) {
+        return switch (dialect) {
+            case "postgresql", "h2" -> "generated by default as identity";
+            case "sqlserver" -> "identity(1,1)";
+            default -> "auto_increment";
+        };
+    }
+
+    /**
+     * Column type of a parsed column: its declared SQL type when Hibernate validates that
+     * type against the column's Java type on the given dialect, so declared lengths,
+     * precisions and wide types (TEXT, BLOB) are kept. Anything else, including a missing
+     * declaration, falls back to the Java type mapping.
+     */
+    static String sqlType(Column column, String dialect) {
+        String declared = declaredType(column.getType(), column.getJavaType(), dialect);
+        return declared != null ? declared : sqlType(column.getJavaType(), dialect);
+    }
+
+    /**
+     * Normalised declared type, or null when it is absent or not validated as the Java type.
+     * Hibernate treats VARCHAR/TEXT, NUMERIC/DECIMAL and VARBINARY/BLOB as equivalent, but
+     * not CHAR, CLOB or BINARY.
+     */
+    private static String declaredType(String type, String javaType, String dialect) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        String declared = type.trim().toLowerCase()
+                .replaceAll("\\s*([(),])\\s*", "$1")
+                .replaceFirst("^character varying", "varchar");
+        String base = declared.replaceAll("\\(.*\\)", "");
+        boolean sized = !base.equals(declared);
+        boolean mysql = "mysql".equals(dialect) || "mariadb".equals(dialect);
+        boolean postgres = "postgresql".equals(dialect);
+        boolean accepted = switch (simpleName(javaType)) {
+            case "String" -> switch (base) {
+                case "varchar" -> sized || postgres;
+                case "text" -> mysql || postgres;
+                case "tinytext", "mediumtext", "longtext" -> mysql;
+                default -> false;
+            };
+            case "BigDecimal" -> base.equals("numeric") || base.equals("decimal");
+            case "byte[]" -> switch (base) {
+                case "varbinary" -> sized && !postgres;
+                case "bytea" -> postgres;
+                case "blob", "tinyblob", "mediumblob", "longblob" -> mysql;
+                default -> false;
+            };
+            default -> false;
+        };
+        return accepted ? declared : null;
+    }
+
+    /**
+     * Maps a Java type to the column type Hibernate 6 expects for it on the given dialect.
+     */
+    static String sqlType(String javaType, String dialect) {
+        boolean mysql = "mysql".equals(dialect) || "mariadb".equals(dialect);
+        boolean sqlserver = "sqlserver".equals(dialect);
+        return switch (simpleName(javaType)) {
+            case "Long" -> "bigint";
+            case "Integer" -> mysql ? "int" : "integer";
+            case "Short" -> "smallint";
+            case "Double" -> mysql ? "double" : "float(53)";
+            case "Float" -> mysql ? "float" : "real";
+            case "BigDecimal" -> mysql ? "decimal(38,2)" : "numeric(38,2)";
+            case "Boolean" -> mysql || sqlserver ? "bit" : "boolean";
+            case "LocalDate" -> "date";
+            case "LocalTime" -> "time";
+            case "LocalDateTime" -> mysql ? "datetime(6)" : sqlserver ? "datetime2(6)" : "timestamp(6)";
+            case "UUID" -> mysql ? "binary(16)" : sqlserver ? "uniqueidentifier" : "uuid";
+            case "byte[]" -> "postgresql".equals(dialect) ? "bytea" : "varbinary(255)";
+            default -> "varchar(255)";
+        };
+    }
+
+    /**
+     * A table to create.
+     */
+    public static final class TableDef {
+        private final String name;
+        private final List<ColumnDef> columns;
+        private final List<String> primaryKey;
+        private final List<String> uniqueColumns;
+
+        private TableDef(String name, List<ColumnDef> columns, List<String> primaryKey, List<String> uniqueColumns) {
+            this.name = name;
+            this.columns = List.copyOf(columns);
+            this.primaryKey = List.copyOf(primaryKey);
+            this.uniqueColumns = List.copyOf(uniqueColumns);
+        }
+
+        /** @return Table name */
+        public String getName() { return name; }
+
+        /** @return Columns in declaration order */
+        public List<ColumnDef> getColumns() { return columns; }
+
+        /** @return Primary key column names (empty when the table has none) */
+        public List<String> getPrimaryKey() { return primaryKey; }
+
+        /** @return Columns with a single-column unique constraint */
+        public List<String> getUniqueColumns() { return uniqueColumns; }
+    }
+
+    /**
+     * A column definition.
+     */
+    public static final class ColumnDef {
+        private final String name;
+        private final String sqlType;
+        private final boolean nullable;
+        private final String clause;
+
+        private ColumnDef(String name, String sqlType, boolean nullable, String clause) {
+            this.name = name;
+            this.sqlType = sqlType;
+            this.nullable = nullable;
+            this.clause = clause;
+        }
+
+        /** @return Column name */
+        public String getName() { return name; }
+
+        /** @return Dialect-specific column type */
+        public String getSqlType() { return sqlType; }
+
+        /** @return Whether the column accepts nulls */
+        public boolean isNullable() { return nullable; }
+
+        /** @return Clause after the type: identity of a generated key, or a default value; null if none */
+        public String getClause() { return clause; }
+    }
+
+    /**
+     * A sequence backing a pooled id generator.
+     */
+    public static final class SequenceDef {
+        private final String name;
+        private final int increment;
+
+        private SequenceDef(String name, int increment) {
+            this.name = name;
+            this.increment = increment;
+        }
+
+        /** @return Sequence name */
+        public String getName() { return name; }
+
+        /** @return Increment, equal to the generator's allocation size */
+        public int getIncrement() { return increment; }
+    }
+
+    /**
+     * A non-unique index.
+     */
+    public static final class IndexDef {
+        private final String table;
+        private final List<String> columns;
+
+        private IndexDef(String table, List<String> columns) {
+            this.table = table;
+            this.columns = List.copyOf(columns);
+        }
+
+        /** @return Index name (e.g., "idx_orders_customer_id") */
+        public String getName() { return "idx_" + table + "_" + String.join("_", columns); }
+
+        /** @return Indexed table */
+        public String getTable() { return table; }
+
+        /** @return Indexed columns, in index order */
+        public List<String> getColumns() { return columns; }
+    }
+
+    /**
+     * A foreign key constraint.
+     */
+    public static final class ForeignKeyDef {
+        private final String table;
+        private final String column;
+        private final String referencedTable;
+        private final String referencedColumn;
+
+        private ForeignKeyDef(String table, String column, String referencedTable, String referencedColumn) {
+            this.table = table;
+            this.column = column;
+            this.referencedTable = referencedTable;
+            this.referencedColumn = referencedColumn;
+        }
+
+        /** @return Constraint name (e.g., "fk_orders_customer_id") */
+        public String getName() { return "fk_" + table + "_" + column; }
+
+        /** @return Referencing table */
+        public String getTable() { return table; }
+
+        /** @return Referencing column */
+        public String getColumn() { return column; }
+
+        /** @return Referenced table */
+        public String getReferencedTable() { return referencedTable; }
+
+        /** @return Referenced column */
+        public String getReferencedColumn() { return referencedColumn; }
+    }
+}
@@ -1,30 +1,37 @@
 package com.firas.generator.stack.spring;
 
+import com.firas.generator.model.Column;
 import com.firas.generator.model.DependencyMetadata;
 import com.firas.generator.model.FilePreview;
 import com.firas.generator.model.ProjectRequest;
 import com.firas.generator.model.RelationshipType;
 import com.firas.generator.model.Table;
+import com.firas.generator.model.config.EntityCacheConfig;
 import com.firas.generator.model.config.SpringConfig;
 import com.firas.generator.service.TemplateService;
 import com.firas.generator.stack.*;
-import com.firas.generator.util.ZipUtils;
-import java.io.File;
-import org.apache.commons.io.FileUtils;
+import com.firas.generator.util.ZipFileSink;
 import org.springframework.stereotype.Component;
 
-import java.io.File;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Component
 public class SpringStackProvider implements StackProvider {
     
     private static final String TEMPLATE_DIR = "spring/";
     
+    /** Dependency ids replaced by WebFlux and R2DBC in reactive projects */
+    private static final Set<String> SERVLET_ONLY_DEPENDENCIES = Set.of("web", "data-jpa");
+    
+    /** Length of a sized SQL type such as VARCHAR(100) */
+    private static final Pattern TYPE_LENGTH = Pattern.compile("\\((\\d+)\\)");
+    
     private final TemplateService templateService;
     private final SpringCodeGenerator codeGenerator;
     private final SpringTypeMapper typeMapper;
@@ -68,18 +75,34 @@ public class SpringStackProvider implements StackProvider {
     
     @Override
     public List<FilePreview> generateProject(ProjectRequest request) throws IOException {
+        FilePreviewSink sink = new FilePreviewSink();
+        generateProject(request, sink);
+        return sink.getFiles();
+    }
+    
+    /**
+     * Generates all project files, rendering each one straight into the sink.
+     */
+    private void generateProject(ProjectRequest request, FileSink sink) throws IOException {
         // Apply type mappings to all columns
         applyTypeMappings(request);
         
-        List<FilePreview> files = new ArrayList<>();
-        
         // Set Spring config on code generator for project structure support
         codeGenerator.setSpringConfig(request.getEffectiveSpringConfig());
         
         // Generate project structure files
-        files.add(generatePom(request));
-        files.add(generateMainClass(request));
-        files.add(generateApplicationProperties(request));
+        generatePom(request, sink);
+        generateMainClass(request, sink);
+        generateApplicationProperties(request, sink);
+        
+        // Blackbird generates bytecode at runtime, which native images cannot do
+        SpringConfig springConfig = request.getEffectiveSpringConfig();
+        if (springConfig.isHttpTuning() && !springConfig.isNativeImage()) {
+            generateJacksonConfig(request, sink);
+        }
+        if (springConfig.isReadReplica() && !SpringCodeGenerator.isReactive(springConfig, request.getSecurityConfig())) {
+            generateDataSourceConfig(request, sink);
+        }
 
         // Handle security configuration specific table modifications
         if (request.getSecurityConfig() != null && request.getSecurityConfig().isEnabled() && request.getTables() != null) {
@@ -190,10 +213,15 @@ public class SpringStackProvider implements StackProvider {
                 });
         }
 
+        if (springConfig.isOptimisticLocking() && request.getTables() != null
+                && !SpringCodeGenerator.isReactive(springConfig, request.getSecurityConfig())) {
+            applyOptimisticLocking(request);
+        }
+
         // Generate Security Config if enabled
         if (request.getSecurityConfig() != null && request.getSecurityConfig().isEnabled()) {
-            files.addAll(generateExtendedSecurityFiles(request));
-            files.add(generateSecurityConfig(request));
+            generateExtendedSecurityFiles(request, sink);
+            generateSecurityConfig(request, sink);
             
             // Set security config on code generator for @PreAuthorize annotations
             codeGenerator.setSecurityConfig(request.getSecurityConfig());
@@ -206,49 +234,61 @@ public class SpringStackProvider implements StackProvider {
                     continue; // Skip join tables
                 }
                 
-                if (request.isIncludeEntity()) {
-                    files.add(codeGenerator.generateEntity(table, request.getPackageName()));
-                }
-                if (request.isIncludeRepository()) {
-                    files.add(codeGenerator.generateRepository(table, request.getPackageName()));
-                }
-                if (request.isIncludeService()) {
-                    files.add(codeGenerator.generateService(table, request.getPackageName()));
-                }
-                if (request.isIncludeController()) {
-                    files.add(codeGenerator.generateController(table, request.getPackageName()));
-                }
-                if (request.isIncludeDto()) {
-                    files.add(codeGenerator.generateDto(table, request.getPackageName()));
-                }
-                if (request.isIncludeMapper()) {
-                    files.add(codeGenerator.generateMapper(table, request.getPackageName()));
-                }
-                
-                // Generate tests if enabled
-                if (request.isIncludeTests()) {
-                    if (request.isIncludeRepository()) {
-                        files.add(codeGenerator.generateRepositoryTest(table, request.getPackageName()));
-                    }
-                    if (request.isIncludeController()) {
-                        files.add(codeGenerator.generateControllerTest(table, request.getPackageName()));
-                    }
-                }
+                codeGenerator.generateTableFiles(table, request, sink);
+            }
+            
+            SpringConfig config = request.getEffectiveSpringConfig();
+            if (config.isCacheEnabled() && !SpringCodeGenerator.isReactive(config, request.getSecurityConfig())) {
+                generateCacheConfig(request, sink);
+            }
+            
+            // Reactive controllers already stream their lists as NDJSON
+            if (config.isStreamingExport() && request.isIncludeController()
+                    && !SpringCodeGenerator.isReactive(config, request.getSecurityConfig())) {
+                generateExportWriter(request, sink);
+            }
+            
+            // Services use the import classes even when no controller is generated
+            if (config.isStreamingImport() && !SpringCodeGenerator.isReactive(config, request.getSecurityConfig())) {
+                generateImportReader(request, sink);
+            }
+            
+            if (usesMigrations(request)) {
+                generateMigrations(request, sink);
+            }
+            
+            if (config.isNativeImage() && request.isIncludeTests() && request.isIncludeController()) {
+                generateNativeSmokeTest(request, sink);
+            }
+            
+            if (request.isIncludeLoadTests() && request.isIncludeController()) {
+                generateLoadTests(request, sink);
             }
         }
         
         // Generate Docker files if enabled
         if (request.isIncludeDocker()) {
-            files.addAll(generateDockerFiles(request));
+            generateDockerFiles(request, sink);
         }
-        
-        return files;
     }
     
     @Override
     public byte[] generateProjectZip(ProjectRequest request) throws IOException {
-        List<FilePreview> files = generateProject(request);
-        return createZipFromFiles(files, getProjectName(request));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generateProjectZip(request, out);
+        return out.toByteArray();
+    }
+    
+    /**
+     * Streams the project ZIP to the output stream.
+     * Templates render directly into the open ZIP entries, so no file content
+     * is ever held as a String.
+     */
+    @Override
+    public void generateProjectZip(ProjectRequest request, OutputStream out) throws IOException {
+        try (ZipFileSink sink = new ZipFileSink(out, getProjectName(request))) {
+            generateProject(request, sink);
+        }
     }
     
     // ==================== Spring-Specific Generation Methods ====================
@@ -256,7 +296,7 @@ public class SpringStackProvider implements StackProvider {
     /**
      * Generates the Maven pom.xml file.
      */
-    private FilePreview generatePom(ProjectRequest request) {
+    private void generatePom(ProjectRequest request, FileSink sink) throws IOException {
         SpringConfig config = request.getEffectiveSpringConfig();
         
         Map<String, Object> model = new HashMap<>();
@@ -267,6 +307,22 @@ public class SpringStackProvider implements StackProvider {
         if (dependencies == null) {
             dependencies = new ArrayList<>();
         }
+        
+        // The reactive flavour brings WebFlux and R2DBC in place of Web MVC and JPA
+        boolean reactive = SpringCodeGenerator.isReactive(config, request.getSecurityConfig());
+        if (reactive) {
+            dependencies = dependencies.stream()
+                    .filter(dep -> !SERVLET_ONLY_DEPENDENCIES.contains(dep.getId()))
+                    .toList();
+        }
+        // The observability block declares Actuator itself
+        if (config.isObservability()) {
+            dependencies = dependencies.stream()
+                    .filter(dep -> !"actuator".equals(dep.getId()))
+                    .toList();
+        }
+        model.put("reactive", reactive);
+        model.put("migrations", usesMigrations(request));
 
         model.put("dependencies", dependencies);
         
@@ -280,60 +336,328 @@ public class SpringStackProvider implements StackProvider {
                 && "JWT".equalsIgnoreCase(request.getSecurityConfig().getAuthenticationType());
         model.put("hasJwt", hasJwt);
         
-        String content = templateService.processTemplateToString(TEMPLATE_DIR + "pom.xml.ftl", model);
-        return new FilePreview("pom.xml", content, "xml");
+        // Caches use Redis when it is selected, Caffeine otherwise
+        model.put("hasRedis", hasRedis(request));
+        
+        render("pom.xml.ftl", model, "pom.xml", "xml", sink);
     }
     
     /**
      * Generates the main Spring Boot application class.
      */
-    private FilePreview generateMainClass(ProjectRequest request) {
+    private void generateMainClass(ProjectRequest request, FileSink sink) throws IOException {
         Map<String, Object> model = new HashMap<>();
         model.put("request", request);
         
         String className = toClassName(request.getName()) + "Application";
         model.put("className", className);
         
-        String content = templateService.processTemplateToString(TEMPLATE_DIR + "Application.java.ftl", model);
         String packagePath = request.getPackageName().replace(".", "/");
         String path = "src/main/java/" + packagePath + "/" + className + ".java";
         
-        return new FilePreview(path, content, "java");
+        render("Application.java.ftl", model, path, "java", sink);
     }
     
     /**
      * Generates the application.properties file.
      */
-    private FilePreview generateApplicationProperties(ProjectRequest request) {
+    private void generateApplicationProperties(ProjectRequest request, FileSink sink) throws IOException {
         Map<String, Object> model = new HashMap<>();
         model.put("request", request);
+        model.put("springConfig", request.getEffectiveSpringConfig());
         
         // Check if JWT authentication is enabled
         boolean hasJwt = request.getSecurityConfig() != null 
                 && "JWT".equalsIgnoreCase(request.getSecurityConfig().getAuthenticationType());
         model.put("hasJwt", hasJwt);
         
-        String content = templateService.processTemplateToString(TEMPLATE_DIR + "application.properties.ftl", model);
-        return new FilePreview("src/main/resources/application.properties", content, "properties");
+        // Reads return DTOs built inside the transaction, so nothing needs an open session while rendering
+        SpringConfig config = request.getEffectiveSpringConfig();
+        model.put("dtoReads", request.isIncludeDto() || request.isIncludeMapper() || config.isCacheEnabled());
+        model.put("reactive", SpringCodeGenerator.isReactive(config, request.getSecurityConfig()));
+        model.put("migrations", usesMigrations(request));
+        
+        render("application.properties.ftl", model, "src/main/resources/application.properties", "properties", sink);
+        render("application-dev.properties.ftl", model, "src/main/resources/application-dev.properties", "properties", sink);
     }
 
     /**
      * Generates the Security Configuration class.
      */
-    private FilePreview generateSecurityConfig(ProjectRequest request) {
+    private void generateSecurityConfig(ProjectRequest request, FileSink sink) throws IOException {
         Map<String, Object> model = new HashMap<>();
         model.put("request", request);
         model.put("packageName", request.getPackageName());
         model.put("security", request.getSecurityConfig());
+        model.put("springConfig", request.getEffectiveSpringConfig());
         
-        String content = templateService.processTemplateToString(TEMPLATE_DIR + "SecurityConfig.ftl", model);
         String path = "src/main/java/" + request.getPackageName().replace(".", "/") + "/config/SecurityConfig.java";
         
-        return new FilePreview(path, content, "java");
+        render("SecurityConfig.ftl", model, path, "java", sink);
+    }
+    
+    /**
+     * Generates the cache configuration with one cache per entity and per entity list.
+     * 
+     * Each entity uses its entry from SpringConfig.entityCaches (by class name or
+     * table name) and falls back to the project-wide TTL and maximum size.
+     */
+    private void generateCacheConfig(ProjectRequest request, FileSink sink) throws IOException {
+        SpringConfig config = request.getEffectiveSpringConfig();
+        
+        List<Map<String, Object>> caches = new ArrayList<>();
+        for (Table table : request.getTables()) {
+            if (table.isJoinTable()) {
+                continue;
+            }
+            EntityCacheConfig override = config.getEntityCaches() != null
+                    ? config.getEntityCaches().getOrDefault(table.getClassName(), config.getEntityCaches().get(table.getName()))
+                    : null;
+            long ttl = override != null && override.getTtlSeconds() != null ? override.getTtlSeconds() : config.getCacheTtlSeconds();
+            long maxSize = override != null && override.getMaxSize() != null ? override.getMaxSize() : config.getCacheMaxSize();
+            
+            SpringTableModel tableModel = SpringTableModel.of(table);
+            caches.add(Map.of("name", tableModel.getCacheName(), "ttlSeconds", ttl, "maxSize", maxSize));
+            // The list cache holds a single entry: the whole table
+            caches.add(Map.of("name", tableModel.getListCacheName(), "ttlSeconds", ttl, "maxSize", 1L));
+        }
+        
+        Map<String, Object> model = new HashMap<>();
+        model.put("request", request);
+        model.put("packageName", request.getPackageName());
+        model.put("caches", caches);
+        model.put("hasRedis", hasRedis(request));
+        
+        String path = "src/main/java/" + request.getPackageName().replace(".", "/") + "/config/CacheConfig.java";
+        
+        render("CacheConfig.ftl", model, path, "java", sink);
+    }
+    
+    /**
+     * Generates the Jackson configuration registering the Blackbird module.
+     */
+    private void generateJacksonConfig(ProjectRequest request, FileSink sink) throws IOException {
+        Map<String, Object> model = new HashMap<>();
+        model.put("packageName", request.getPackageName());
+        
+        String path = "src/main/java/" + request.getPackageName().replace(".", "/") + "/config/JacksonConfig.java";
+        
+        render("JacksonConfig.ftl", model, path, "java", sink);
+    }
+    
+    /**
+     * Generates the routing DataSource sending read-only transactions to the replica pool.
+     */
+    private void generateDataSourceConfig(ProjectRequest request, FileSink sink) throws IOException {
+        Map<String, Object> model = new HashMap<>();
+        model.put("packageName", request.getPackageName());
+        
+        String path = "src/main/java/" + request.getPackageName().replace(".", "/") + "/config/DataSourceConfig.java";
+        
+        render("DataSourceConfig.ftl", model, path, "java", sink);
+    }
+    
+    /**
+     * Generates the NDJSON/CSV writer shared by the export endpoints of all controllers.
+     */
+    private void generateExportWriter(ProjectRequest request, FileSink sink) throws IOException {
+        Map<String, Object> model = new HashMap<>();
+        model.put("packageName", request.getPackageName());
+        
+        String path = "src/main/java/" + request.getPackageName().replace(".", "/") + "/util/ExportWriter.java";
+        
+        render("ExportWriter.ftl", model, path, "java", sink);
+    }
+    
+    /**
+     * Gives every entity table a version column for optimistic locking.
+     * 
+     * An existing numeric "version" column is reused; otherwise one is added. The
+     * column is recorded as "versionField" metadata, which maps it to @Version in
+     * the entity, skips it in mappers and imports and gives it a default in the
+     * migrations.
+     */
+    private void applyOptimisticLocking(ProjectRequest request) {
+        for (Table table : request.getTables()) {
+            if (table.isJoinTable()) {
+                continue;
+            }
+            Column version = table.getColumns().stream()
+                    .filter(column -> "version".equals(column.getFieldName()))
+                    .findFirst()
+                    .orElse(null);
+            if (version == null) {
+                version = new Column();
+                version.setName("version");
+                version.setFieldName("version");
+                version.setJavaType("Long");
+                version.setType("BIGINT");
+                version.setNullable(false);
+                table.addColumn(version);
+            } else if (!List.of("Long", "Integer", "Short").contains(version.getJavaType())) {
+                // A non-numeric column of that name is user data, not a version
+                continue;
+            }
+            table.addMetadata("versionField", version.getFieldName());
+        }
+    }
+    
+    /**
+     * Generates the NDJSON/CSV reader, row and report classes shared by the import endpoints.
+     */
+    private void generateImportReader(ProjectRequest request, FileSink sink) throws IOException {
+        Map<String, Object> model = new HashMap<>();
+        model.put("packageName", request.getPackageName());
+        
+        String basePath = "src/main/java/" + request.getPackageName().replace(".", "/") + "/util/";
+        render("ImportReader.ftl", model, basePath + "ImportReader.java", "java", sink);
+        render("ImportRow.ftl", model, basePath + "ImportRow.java", "java", sink);
+        render("ImportReport.ftl", model, basePath + "ImportReport.java", "java", sink);
+    }
+    
+    /**
+     * Generates the versioned Flyway migrations of the entity schema.
+     * 
+     * Runs after the security changes (injected password column and role
+     * relationships), so the migrations match the generated entities.
+     */
+    private void generateMigrations(ProjectRequest request, FileSink sink) throws IOException {
+        SpringConfig config = request.getEffectiveSpringConfig();
+        boolean dynamicRbac = request.getSecurityConfig() != null && request.getSecurityConfig().isEnabled()
+                && "DYNAMIC".equalsIgnoreCase(request.getSecurityConfig().getRbacMode());
+        
+        Map<String, Object> model = new HashMap<>();
+        model.put("schema", SpringSchemaModel.of(request.getTables(), request.getDatabaseType(),
+                SpringCodeGenerator.usesSequenceIds(request, config), config.getJdbcBatchSize(), dynamicRbac));
+        
+        String basePath = "src/main/resources/db/migration/";
+        render("migration/V1__create_tables.sql.ftl", model, basePath + "V1__create_tables.sql", "sql", sink);
+        render("migration/V2__add_indexes.sql.ftl", model, basePath + "V2__add_indexes.sql", "sql", sink);
+        render("migration/V3__add_foreign_keys.sql.ftl", model, basePath + "V3__add_foreign_keys.sql", "sql", sink);
+    }
+    
+    /**
+     * Generates a smoke test that runs inside the native image (./mvnw -PnativeTest test).
+     * 
+     * It lists every entity, expects a 404 for a missing id, and runs a full
+     * create/read/delete cycle for entities whose columns all accept nulls,
+     * since an empty body is the only payload valid for any table.
+     */
+    private void generateNativeSmokeTest(ProjectRequest request, FileSink sink) throws IOException {
+        List<Map<String, Object>> entities = new ArrayList<>();
+        for (Table table : request.getTables()) {
+            if (table.isJoinTable()) {
+                continue;
+            }
+            SpringTableModel tableModel = SpringTableModel.of(table);
+            boolean creatable = tableModel.getPkColumn() != null && table.getColumns().stream()
+                    .allMatch(column -> column.isPrimaryKey() || column.isNullable());
+            entities.add(Map.of(
+                    "className", table.getClassName(),
+                    "path", "/api/" + table.getClassName().toLowerCase() + "s",
+                    "pkField", tableModel.getPkField(),
+                    "creatable", creatable));
+        }
+        
+        Map<String, Object> model = new HashMap<>();
+        model.put("request", request);
+        model.put("packageName", request.getPackageName());
+        model.put("entities", entities);
+        model.put("securityEnabled", request.getSecurityConfig() != null && request.getSecurityConfig().isEnabled());
+        
+        String path = "src/test/java/" + request.getPackageName().replace(".", "/") + "/NativeSmokeTest.java";
+        
+        render("NativeSmokeTest.ftl", model, path, "java", sink);
+    }
+    
+    /**
+     * Generates a standalone Gatling module (load-tests/) with one CRUD scenario per entity.
+     * 
+     * Payloads are built from each column's Java type, length and nullability. Entities
+     * with a required foreign key cannot be created without a parent row, and the security
+     * principal cannot be created through its CRUD endpoint (the password is never
+     * deserialized), so their scenarios only read.
+     */
+    private void generateLoadTests(ProjectRequest request, FileSink sink) throws IOException {
+        List<Map<String, Object>> entities = new ArrayList<>();
+        for (Table table : request.getTables()) {
+            if (table.isJoinTable()) {
+                continue;
+            }
+            SpringTableModel tableModel = SpringTableModel.of(table);
+            boolean principal = Boolean.TRUE.equals(table.getMetadata().get("isUserDetails"));
+            boolean creatable = tableModel.getPkColumn() != null && !principal && table.getColumns().stream()
+                    .noneMatch(column -> column.isForeignKey() && !column.isNullable());
+            
+            List<Map<String, Object>> fields = new ArrayList<>();
+            for (Column column : table.getColumns()) {
+                if (column.isPrimaryKey() || column.isForeignKey() || column == tableModel.getVersionColumn()) {
+                    continue;
+                }
+                fields.add(Map.of(
+                        "fieldName", column.getFieldName(),
+                        "javaType", column.getJavaType() != null ? column.getJavaType() : "String",
+                        "nullable", column.isNullable(),
+                        "unique", column.isUnique(),
+                        "maxLength", maxLength(column)));
+            }
+            
+            Map<String, Object> entity = new HashMap<>();
+            entity.put("className", table.getClassName());
+            entity.put("path", "/api/" + table.getClassName().toLowerCase() + "s");
+            entity.put("pkField", tableModel.getPkField() != null ? tableModel.getPkField() : "id");
+            entity.put("creatable", creatable);
+            entity.put("principal", principal);
+            entity.put("fields", fields);
+            entities.add(entity);
+        }
+        
+        Map<String, Object> model = new HashMap<>();
+        model.put("request", request);
+        model.put("packageName", request.getPackageName());
+        model.put("artifactId", getProjectName(request));
+        model.put("entities", entities);
+        model.put("securityEnabled", request.getSecurityConfig() != null && request.getSecurityConfig().isEnabled());
+        
+        String basePath = "load-tests/src/test/java/" + request.getPackageName().replace(".", "/") + "/loadtest/";
+        render("loadtest/pom.xml.ftl", model, "load-tests/pom.xml", "xml", sink);
+        render("loadtest/Payloads.ftl", model, basePath + "Payloads.java", "java", sink);
+        render("loadtest/CrudSimulation.ftl", model, basePath + "CrudSimulation.java", "java", sink);
     }
     
     // ==================== Utility Methods ====================
     
+    /**
+     * Maximum length of generated strings: the declared VARCHAR length capped at 32.
+     */
+    private int maxLength(Column column) {
+        if (column.getType() != null) {
+            Matcher matcher = TYPE_LENGTH.matcher(column.getType());
+            if (matcher.find()) {
+                return Math.max(1, Math.min(32, Integer.parseInt(matcher.group(1))));
+            }
+        }
+        return 32;
+    }
+    
+    /**
+     * Whether the schema comes from generated Flyway migrations: when requested, and
+     * always for reactive projects, since R2DBC cannot create tables from the entities.
+     */
+    private boolean usesMigrations(ProjectRequest request) {
+        SpringConfig config = request.getEffectiveSpringConfig();
+        return config.isDatabaseMigrations() || SpringCodeGenerator.isReactive(config, request.getSecurityConfig());
+    }
+    
+    /**
+     * Checks whether the Redis dependency is selected.
+     */
+    private boolean hasRedis(ProjectRequest request) {
+        List<DependencyMetadata> dependencies = request.getDependencies();
+        return dependencies != null && dependencies.stream()
+                .anyMatch(dep -> "data-redis".equals(dep.getId()) || dep.getArtifactId() != null && dep.getArtifactId().contains("redis"));
+    }
+    
     /**
      * Converts a project name to a valid Java class name.
      */
@@ -362,36 +686,15 @@ public class SpringStackProvider implements StackProvider {
     }
     
     /**
-     * Creates a ZIP file from the list of file previews.
+     * Renders a template straight into a new file of the sink.
      */
-    private byte[] createZipFromFiles(List<FilePreview> files, String projectName) throws IOException {
-        Path tempDir = Files.createTempDirectory("spring-gen-");
-        File projectDir = new File(tempDir.toFile(), projectName);
-        projectDir.mkdirs();
-        
-        try {
-            // Write all files to temp directory
-            for (FilePreview file : files) {
-                Path filePath = projectDir.toPath().resolve(file.getPath());
-                Files.createDirectories(filePath.getParent());
-                Files.writeString(filePath, file.getContent(), StandardCharsets.UTF_8);
-            }
-            
-            // Create ZIP
-            return ZipUtils.zipDirectory(projectDir);
-        } finally {
-            // Cleanup temp directory
-            try {
-                FileUtils.deleteDirectory(tempDir.toFile());
-            } catch (IOException e) {
-                System.out.println("WARN: Failed to clean up temp directory: " + tempDir + " " + e.getMessage());
-            }
+    private void render(String templateName, Map<String, Object> model, String path, String language, FileSink sink) throws IOException {
+        try (Writer writer = sink.openFile(path, language)) {
+            templateService.processTemplate(TEMPLATE_DIR + templateName, model, writer);
         }
-
     }
 
-    private List<FilePreview> generateExtendedSecurityFiles(ProjectRequest request) {
-        List<FilePreview> files = new ArrayList<>();
+    private void generateExtendedSecurityFiles(ProjectRequest request, FileSink sink) throws IOException {
         com.firas.generator.model.config.SecurityConfig security = request.getSecurityConfig();
         String basePath = "src/main/java/" + request.getPackageName().replace(".", "/") + "/";
 
@@ -399,8 +702,7 @@ public class SpringStackProvider implements StackProvider {
         Map<String, Object> model = new HashMap<>();
         model.put("request", request);
         model.put("packageName", request.getPackageName());
-        String appConfigContent = templateService.processTemplateToString(TEMPLATE_DIR + "security/ApplicationConfig.ftl", model);
-        files.add(new FilePreview(basePath + "config/ApplicationConfig.java", appConfigContent, "java"));
+        render("security/ApplicationConfig.ftl", model, basePath + "config/ApplicationConfig.java", "java", sink);
 
         // 2. CustomUserDetailsService (If Principal set)
         if (security.getPrincipalEntity() != null) {
@@ -408,8 +710,7 @@ public class SpringStackProvider implements StackProvider {
             tdsModel.put("packageName", request.getPackageName());
             tdsModel.put("repositoryName", security.getPrincipalEntity() + "Repository");
             tdsModel.put("usernameField", security.getUsernameField());
-            String tdsContent = templateService.processTemplateToString(TEMPLATE_DIR + "security/CustomUserDetailsService.ftl", tdsModel);
-            files.add(new FilePreview(basePath + "service/auth/CustomUserDetailsService.java", tdsContent, "java"));
+            render("security/CustomUserDetailsService.ftl", tdsModel, basePath + "service/auth/CustomUserDetailsService.java", "java", sink);
         }
 
         // 3. Static RBAC Mode: Generate Permission and Role Enums
@@ -420,12 +721,10 @@ public class SpringStackProvider implements StackProvider {
             rbacModel.put("definedRoles", security.getDefinedRoles());
             
             // Generate Permission.java enum
-            String permissionContent = templateService.processTemplateToString(TEMPLATE_DIR + "Permission.ftl", rbacModel);
-            files.add(new FilePreview(basePath + "security/Permission.java", permissionContent, "java"));
+            render("Permission.ftl", rbacModel, basePath + "security/Permission.java", "java", sink);
             
             // Generate Role.java enum
-            String roleContent = templateService.processTemplateToString(TEMPLATE_DIR + "Role.ftl", rbacModel);
-            files.add(new FilePreview(basePath + "security/Role.java", roleContent, "java"));
+            render("Role.ftl", rbacModel, basePath + "security/Role.java", "java", sink);
         }
 
         // 4. Dynamic RBAC Mode: Generate Role JPA Entity
@@ -434,14 +733,18 @@ public class SpringStackProvider implements StackProvider {
             rbacModel.put("packageName", request.getPackageName());
             
             // Generate Role.java JPA entity (with @ElementCollection for permissions)
-            String roleEntityContent = templateService.processTemplateToString(TEMPLATE_DIR + "RoleEntity.ftl", rbacModel);
-            files.add(new FilePreview(basePath + "entity/Role.java", roleEntityContent, "java"));
+            render("RoleEntity.ftl", rbacModel, basePath + "entity/Role.java", "java", sink);
             
             // Generate RoleRepository.java
             Map<String, Object> repoModel = new HashMap<>();
             repoModel.put("packageName", request.getPackageName());
             String roleRepoContent = generateRoleRepository(request.getPackageName());
-            files.add(new FilePreview(basePath + "repository/RoleRepository.java", roleRepoContent, "java"));
+            sink.write(new FilePreview(basePath + "repository/RoleRepository.java", roleRepoContent, "java"));
+            
+            // Role -> authorities snapshot, dropped by role change events
+            render("security/PermissionResolver.ftl", rbacModel, basePath + "security/PermissionResolver.java", "java", sink);
+            render("security/RolesChangedEvent.ftl", rbacModel, basePath + "security/RolesChangedEvent.java", "java", sink);
+            render("security/RoleChangeListener.ftl", rbacModel, basePath + "security/RoleChangeListener.java", "java", sink);
         }
 
         // 5. JWT Components
@@ -452,36 +755,35 @@ public class SpringStackProvider implements StackProvider {
             jwtModel.put("security", security);
             
             // JwtUtil
-            String jwtUtilContent = templateService.processTemplateToString(TEMPLATE_DIR + "security/JwtUtil.ftl", jwtModel);
-            files.add(new FilePreview(basePath + "config/JwtUtil.java", jwtUtilContent, "java"));
+            render("security/JwtUtil.ftl", jwtModel, basePath + "config/JwtUtil.java", "java", sink);
 
             // JwtFilter
-            String jwtFilterContent = templateService.processTemplateToString(TEMPLATE_DIR + "security/JwtFilter.ftl", jwtModel);
-            files.add(new FilePreview(basePath + "config/JwtAuthenticationFilter.java", jwtFilterContent, "java"));
+            render("security/JwtFilter.ftl", jwtModel, basePath + "config/JwtAuthenticationFilter.java", "java", sink);
+            
+            // Per-token user cache; not needed when the authorities travel in the token
+            if (security.isJwtUserCache() && !security.isJwtAuthoritiesInToken()) {
+                render("security/JwtUserCache.ftl", jwtModel, basePath + "config/JwtUserCache.java", "java", sink);
+            }
             
             // Auth DTOs
-            String authRequestContent = templateService.processTemplateToString(TEMPLATE_DIR + "security/AuthRequest.ftl", jwtModel);
-            files.add(new FilePreview(basePath + "dto/AuthRequest.java", authRequestContent, "java"));
+            render("security/AuthRequest.ftl", jwtModel, basePath + "dto/AuthRequest.java", "java", sink);
             
-            String authResponseContent = templateService.processTemplateToString(TEMPLATE_DIR + "security/AuthResponse.ftl", jwtModel);
-            files.add(new FilePreview(basePath + "dto/AuthResponse.java", authResponseContent, "java"));
+            render("security/AuthResponse.ftl", jwtModel, basePath + "dto/AuthResponse.java", "java", sink);
             
-            String registerRequestContent = templateService.processTemplateToString(TEMPLATE_DIR + "security/RegisterRequest.ftl", jwtModel);
-            files.add(new FilePreview(basePath + "dto/RegisterRequest.java", registerRequestContent, "java"));
+            render("security/RegisterRequest.ftl", jwtModel, basePath + "dto/RegisterRequest.java", "java", sink);
             
             // Auth Controller
-            String authControllerContent = templateService.processTemplateToString(TEMPLATE_DIR + "security/AuthController.ftl", jwtModel);
-            files.add(new FilePreview(basePath + "controller/AuthController.java", authControllerContent, "java"));
+            render("security/AuthController.ftl", jwtModel, basePath + "controller/AuthController.java", "java", sink);
         }
-
-        return files;
     }
 
     /**
      * Generates Docker-related files (Dockerfile, docker-compose.yml, .dockerignore).
+     * 
+     * With observability, also the Prometheus scrape config and the Grafana
+     * provisioning (data source and a service dashboard) of the compose sidecar.
      */
-    private List<FilePreview> generateDockerFiles(ProjectRequest request) {
-        List<FilePreview> files = new ArrayList<>();
+    private void generateDockerFiles(ProjectRequest request, FileSink sink) throws IOException {
         
         Map<String, Object> model = new HashMap<>();
         model.put("request", request);
@@ -494,8 +796,7 @@ public class SpringStackProvider implements StackProvider {
                 .anyMatch(dep -> "postgresql".equals(dep.getId()) || "postgresql".equals(dep.getArtifactId()));
         boolean hasMariadb = dependencies != null && dependencies.stream()
                 .anyMatch(dep -> "mariadb".equals(dep.getId()) || "mariadb-java-client".equals(dep.getArtifactId()));
-        boolean hasRedis = dependencies != null && dependencies.stream()
-                .anyMatch(dep -> "data-redis".equals(dep.getId()) || dep.getArtifactId() != null && dep.getArtifactId().contains("redis"));
+        boolean hasRedis = hasRedis(request);
         boolean hasMongodb = dependencies != null && dependencies.stream()
                 .anyMatch(dep -> "data-mongodb".equals(dep.getId()) || dep.getArtifactId() != null && dep.getArtifactId().contains("mongo"));
         
@@ -504,6 +805,10 @@ public class SpringStackProvider implements StackProvider {
         model.put("hasMariadb", hasMariadb);
         model.put("hasRedis", hasRedis);
         model.put("hasMongodb", hasMongodb);
+        model.put("reactive", SpringCodeGenerator.isReactive(request.getEffectiveSpringConfig(), request.getSecurityConfig()));
+        model.put("springConfig", request.getEffectiveSpringConfig());
+        // The image runs the main class from the extracted layers instead of the fat jar
+        model.put("mainClass", request.getPackageName() + "." + toClassName(request.getName()) + "Application");
         
         // Check for JWT
         boolean hasJwt = request.getSecurityConfig() != null 
@@ -511,18 +816,23 @@ public class SpringStackProvider implements StackProvider {
         model.put("hasJwt", hasJwt);
         
         // Dockerfile
-        String dockerfileContent = templateService.processTemplateToString(TEMPLATE_DIR + "Dockerfile.ftl", model);
-        files.add(new FilePreview("Dockerfile", dockerfileContent, "dockerfile"));
+        render("Dockerfile.ftl", model, "Dockerfile", "dockerfile", sink);
         
         // docker-compose.yml
-        String dockerComposeContent = templateService.processTemplateToString(TEMPLATE_DIR + "docker-compose.yml.ftl", model);
-        files.add(new FilePreview("docker-compose.yml", dockerComposeContent, "yaml"));
+        render("docker-compose.yml.ftl", model, "docker-compose.yml", "yaml", sink);
         
         // .dockerignore
-        String dockerignoreContent = templateService.processTemplateToString(TEMPLATE_DIR + ".dockerignore.ftl", model);
-        files.add(new FilePreview(".dockerignore", dockerignoreContent, "text"));
+        render(".dockerignore.ftl", model, ".dockerignore", "text", sink);
         
-        return files;
+        if (request.getEffectiveSpringConfig().isObservability()) {
+            render("observability/prometheus.yml.ftl", model, "observability/prometheus.yml", "yaml", sink);
+            render("observability/datasource.yml.ftl", model,
+                    "observability/grafana/provisioning/datasources/prometheus.yml", "yaml", sink);
+            render("observability/dashboards.yml.ftl", model,
+                    "observability/grafana/provisioning/dashboards/dashboards.yml", "yaml", sink);
+            render("observability/dashboard.json.ftl", model,
+                    "observability/grafana/dashboards/service.json", "json", sink);
+        }
     }
 
     /**
@@ -532,11 +842,16 @@ public class SpringStackProvider implements StackProvider {
         return "package " + packageName + ".repository;\n\n" +
                "import " + packageName + ".entity.Role;\n" +
                "import org.springframework.data.jpa.repository.JpaRepository;\n" +
+               "import org.springframework.data.jpa.repository.Query;\n" +
                "import org.springframework.stereotype.Repository;\n\n" +
+               "import java.util.List;\n" +
                "import java.util.Optional;\n\n" +
                "@Repository\n" +
                "public interface RoleRepository extends JpaRepository<Role, Long> {\n" +
-               "    Optional<Role> findByName(String name);\n" +
+               "    Optional<Role> findByName(String name);\n\n" +
+               "    // All roles with their permissions in one query, for the PermissionResolver snapshot\n" +
+               "    @Query(\"select distinct r from Role r left join fetch r.permissions\")\n" +
+               "    List<Role> findAllWithPermissions();\n" +
                "}\n";
     }
 }
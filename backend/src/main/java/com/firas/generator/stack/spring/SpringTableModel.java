@@ -0,0 +1,419 @@
+package com.firas.generator.stack.spring;
+
+import com.firas.generator.model.Column;
+import com.firas.generator.model.Relationship;
+import com.firas.generator.model.RelationshipType;
+import com.firas.generator.model.Table;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Immutable, precomputed view of a table shared by all Spring templates.
+ *
+ * Built once per table and reused for the Entity, Repository, Service, Controller
+ * and test templates, so facts such as the primary key type or the relationships
+ * of a given kind are derived once in Java instead of being re-scanned with
+ * {@code <#list table.columns ...><#if col.primaryKey>} in every template.
+ *
+ * Templates access it as {@code tableModel} (e.g. {@code ${tableModel.pkType}}).
+ *
+ * It also names the fetch plan of the entity: one entity graph loading all
+ * single-valued associations, and one per collection for parent-with-children reads.
+ *
+ * @author Firas Baklouti
+ * @version 1.0
+ * @since 2025-12-07
+ */
+public final class SpringTableModel {
+
+    /** ID type used when a table declares no primary key */
+    private static final String DEFAULT_ID_TYPE = "Long";
+
+    /** Imports required by Java types that are not in java.lang */
+    private static final Map<String, String> TYPE_IMPORTS = Map.of(
+            "BigDecimal", "java.math.BigDecimal",
+            "LocalDate", "java.time.LocalDate",
+            "LocalTime", "java.time.LocalTime",
+            "LocalDateTime", "java.time.LocalDateTime",
+            "UUID", "java.util.UUID"
+    );
+
+    private final Table table;
+    private final String className;
+    private final String varName;
+    private final Column pkColumn;
+    private final String pkType;
+    private final String pkField;
+    private final List<Column> columns;
+    private final List<Column> foreignKeyColumns;
+    private final List<Relationship> manyToOne;
+    private final List<Relationship> oneToMany;
+    private final List<Relationship> oneToOne;
+    private final List<Relationship> manyToMany;
+    private final List<Relationship> collectionRelationships;
+    private final List<Relationship> singleRelationships;
+    private final List<String> imports;
+    private final List<ReferenceId> referenceIds;
+    private final List<Column> dtoColumns;
+    private final Column versionColumn;
+    private final List<Column> uniqueColumns;
+    private final List<String> valueImports;
+    private final List<String> columnImports;
+    private final Map<String, Object> metadata;
+    private final Map<String, Object> baseModel;
+
+    private SpringTableModel(Table table) {
+        this.table = table;
+        this.className = table.getClassName();
+        this.varName = Character.toLowerCase(className.charAt(0)) + className.substring(1);
+
+        Column pk = null;
+        List<Column> plain = new ArrayList<>();
+        List<Column> foreign = new ArrayList<>();
+        for (Column column : table.getColumns()) {
+            if (column.isPrimaryKey() && pk == null) {
+                pk = column;
+            }
+            if (column.isForeignKey()) {
+                foreign.add(column);
+            } else {
+                plain.add(column);
+            }
+        }
+        this.pkColumn = pk;
+        this.pkType = pk != null && pk.getJavaType() != null ? pk.getJavaType() : DEFAULT_ID_TYPE;
+        this.pkField = pk != null ? pk.getFieldName() : "id";
+        this.columns = Collections.unmodifiableList(plain);
+        this.foreignKeyColumns = Collections.unmodifiableList(foreign);
+
+        List<Relationship> m2o = new ArrayList<>();
+        List<Relationship> o2m = new ArrayList<>();
+        List<Relationship> o2o = new ArrayList<>();
+        List<Relationship> m2m = new ArrayList<>();
+        List<Relationship> collections = new ArrayList<>();
+        List<Relationship> singles = new ArrayList<>();
+        if (table.getRelationships() != null) {
+            for (Relationship rel : table.getRelationships()) {
+                if (rel.getType() == null) {
+                    continue;
+                }
+                switch (rel.getType()) {
+                    case MANY_TO_ONE -> m2o.add(rel);
+                    case ONE_TO_MANY -> o2m.add(rel);
+                    case ONE_TO_ONE -> o2o.add(rel);
+                    case MANY_TO_MANY -> m2m.add(rel);
+                }
+                if (rel.getType() == RelationshipType.ONE_TO_MANY || rel.getType() == RelationshipType.MANY_TO_MANY) {
+                    collections.add(rel);
+                } else {
+                    singles.add(rel);
+                }
+            }
+        }
+        this.manyToOne = Collections.unmodifiableList(m2o);
+        this.oneToMany = Collections.unmodifiableList(o2m);
+        this.oneToOne = Collections.unmodifiableList(o2o);
+        this.manyToMany = Collections.unmodifiableList(m2m);
+        this.collectionRelationships = Collections.unmodifiableList(collections);
+        this.singleRelationships = Collections.unmodifiableList(singles);
+
+        // Ids of the rows this table points to, read from the owning side's FK column
+        List<ReferenceId> refs = new ArrayList<>();
+        for (Relationship rel : singles) {
+            if (rel.getMappedBy() != null || rel.getSourceColumn() == null) {
+                continue;
+            }
+            String idType = pkType;
+            boolean nullable = true;
+            for (Column column : foreign) {
+                if (column.getName().equalsIgnoreCase(rel.getSourceColumn())) {
+                    nullable = column.isNullable();
+                    if (column.getJavaType() != null) {
+                        idType = column.getJavaType();
+                    }
+                }
+            }
+            String targetField = rel.getTargetColumn() != null ? toFieldName(rel.getTargetColumn()) : "id";
+            refs.add(new ReferenceId(rel, rel.getFieldName() + "Id", idType, targetField, nullable));
+        }
+        this.referenceIds = Collections.unmodifiableList(refs);
+
+        this.metadata = table.getMetadata() != null
+                ? Collections.unmodifiableMap(new HashMap<>(table.getMetadata()))
+                : Collections.emptyMap();
+
+        // DTOs never expose the principal's password
+        Object passwordField = Boolean.TRUE.equals(metadata.get("isUserDetails")) ? metadata.get("passwordField") : null;
+        List<Column> exposed = new ArrayList<>();
+        for (Column column : plain) {
+            if (passwordField == null || !passwordField.equals(column.getFieldName())) {
+                exposed.add(column);
+            }
+        }
+        this.dtoColumns = Collections.unmodifiableList(exposed);
+
+        // Optimistic locking column, marked by the provider
+        Object versionField = metadata.get("versionField");
+        Column version = null;
+        for (Column column : plain) {
+            if (column.getFieldName() != null && column.getFieldName().equals(versionField)) {
+                version = column;
+            }
+        }
+        this.versionColumn = version;
+
+        // Unique DTO columns have a unique index, so lookups by them never scan
+        List<Column> unique = new ArrayList<>();
+        for (Column column : exposed) {
+            if (column.isUnique() && !column.isPrimaryKey()) {
+                unique.add(column);
+            }
+        }
+        this.uniqueColumns = Collections.unmodifiableList(unique);
+
+        // Imports needed by the DTO component types, sorted for stable output
+        TreeSet<String> values = new TreeSet<>();
+        for (Column column : exposed) {
+            String javaImport = TYPE_IMPORTS.get(column.getJavaType());
+            if (javaImport != null) {
+                values.add(javaImport);
+            }
+        }
+        for (ReferenceId ref : refs) {
+            String javaImport = TYPE_IMPORTS.get(ref.getJavaType());
+            if (javaImport != null) {
+                values.add(javaImport);
+            }
+        }
+        this.valueImports = List.copyOf(values);
+
+        // Imports needed when every column, foreign keys included, is a plain field (R2DBC entities)
+        TreeSet<String> all = new TreeSet<>();
+        for (Column column : table.getColumns()) {
+            String javaImport = TYPE_IMPORTS.get(column.getJavaType());
+            if (javaImport != null) {
+                all.add(javaImport);
+            }
+        }
+        this.columnImports = List.copyOf(all);
+
+        // The entity additionally needs its collection types
+        TreeSet<String> required = new TreeSet<>();
+        for (Column column : plain) {
+            String javaImport = TYPE_IMPORTS.get(column.getJavaType());
+            if (javaImport != null) {
+                required.add(javaImport);
+            }
+        }
+        if (!collections.isEmpty()) {
+            required.add("java.util.Set");
+            required.add("java.util.HashSet");
+        }
+        if (Boolean.TRUE.equals(metadata.get("isUserDetails"))) {
+            // getAuthorities() builds its result as a List
+            required.add("java.util.List");
+            required.add("java.util.ArrayList");
+        }
+        this.imports = List.copyOf(required);
+
+        // Entries shared by every per-file template model
+        Map<String, Object> base = new HashMap<>(metadata);
+        base.put("table", table);
+        base.put("tableModel", this);
+        this.baseModel = Collections.unmodifiableMap(base);
+    }
+
+    /**
+     * Builds the shared view for a table.
+     *
+     * @param table The table metadata (with Java types already mapped)
+     * @return Immutable view of the table
+     */
+    public static SpringTableModel of(Table table) {
+        return new SpringTableModel(table);
+    }
+
+    /** @return The underlying table */
+    public Table getTable() { return table; }
+
+    /** @return The entity class name (e.g., "OrderItem") */
+    public String getClassName() { return className; }
+
+    /** @return The class name as a variable name (e.g., "orderItem") */
+    public String getVarName() { return varName; }
+
+    /** @return The primary key column, or null if the table declares none */
+    public Column getPkColumn() { return pkColumn; }
+
+    /** @return The Java type of the primary key (Long when no key is declared) */
+    public String getPkType() { return pkType; }
+
+    /** @return The Java field name of the primary key ("id" when no key is declared) */
+    public String getPkField() { return pkField; }
+
+    /** @return Columns mapped as plain entity fields (all non-FK columns, including the PK) */
+    public List<Column> getColumns() { return columns; }
+
+    /** @return Foreign key columns, which are mapped through relationships instead of fields */
+    public List<Column> getForeignKeyColumns() { return foreignKeyColumns; }
+
+    /** @return MANY_TO_ONE relationships owned by this table */
+    public List<Relationship> getManyToOne() { return manyToOne; }
+
+    /** @return ONE_TO_MANY relationships (inverse side) of this table */
+    public List<Relationship> getOneToMany() { return oneToMany; }
+
+    /** @return ONE_TO_ONE relationships of this table */
+    public List<Relationship> getOneToOne() { return oneToOne; }
+
+    /** @return MANY_TO_MANY relationships of this table */
+    public List<Relationship> getManyToMany() { return manyToMany; }
+
+    /** @return Collection-valued relationships (ONE_TO_MANY and MANY_TO_MANY), in declaration order */
+    public List<Relationship> getCollectionRelationships() { return collectionRelationships; }
+
+    /** @return Single-valued relationships (MANY_TO_ONE and ONE_TO_ONE), in declaration order */
+    public List<Relationship> getSingleRelationships() { return singleRelationships; }
+
+    /** @return Name of the entity graph fetching all single-valued associations */
+    public String getReferencesGraph() { return className + ".withReferences"; }
+
+    /**
+     * Name of the entity graph fetching one collection together with the parent.
+     *
+     * @param relationship A collection-valued relationship of this table
+     * @return Graph name (e.g., "Order.withItems")
+     */
+    public String collectionGraph(Relationship relationship) {
+        String field = relationship.getFieldName();
+        return className + ".with" + Character.toUpperCase(field.charAt(0)) + field.substring(1);
+    }
+
+    /**
+     * @param fieldName Field name of a relationship (e.g., "roles")
+     * @return Whether this table has a collection-valued relationship with that field name
+     */
+    public boolean hasCollection(String fieldName) {
+        return collectionRelationships.stream().anyMatch(rel -> fieldName.equals(rel.getFieldName()));
+    }
+
+    /** @return Fully qualified imports required by the entity's fields, sorted */
+    public List<String> getImports() { return imports; }
+
+    /** @return Name of the cache holding single DTOs by primary key (e.g., "orderItem") */
+    public String getCacheName() { return varName; }
+
+    /** @return Name of the cache holding the full DTO list (e.g., "orderItemList") */
+    public String getListCacheName() { return varName + "List"; }
+
+    /** @return Columns exposed by DTOs (entity columns without the principal's password) */
+    public List<Column> getDtoColumns() { return dtoColumns; }
+
+    /** @return The @Version column, or null without optimistic locking */
+    public Column getVersionColumn() { return versionColumn; }
+
+    /** @return Non-key unique columns exposed by DTOs, each backed by a unique index */
+    public List<Column> getUniqueColumns() { return uniqueColumns; }
+
+    /** @return Ids of the rows referenced through owning single-valued relationships */
+    public List<ReferenceId> getReferenceIds() { return referenceIds; }
+
+    /** @return Fully qualified imports required by DTO column and reference id types, sorted */
+    public List<String> getValueImports() { return valueImports; }
+
+    /** @return Fully qualified imports required by all column types, foreign keys included, sorted */
+    public List<String> getColumnImports() { return columnImports; }
+
+    /**
+     * JPQL select list of the DTO constructor projection, matching the DTO
+     * components: DTO columns first, then reference ids.
+     *
+     * @return Select list using alias "e" for the entity and "r0", "r1", ... for references
+     */
+    public String getProjectionSelect() {
+        List<String> parts = new ArrayList<>();
+        for (Column column : dtoColumns) {
+            parts.add("e." + column.getFieldName());
+        }
+        for (int i = 0; i < referenceIds.size(); i++) {
+            parts.add("r" + i + "." + referenceIds.get(i).getTargetField());
+        }
+        return String.join(", ", parts);
+    }
+
+    /**
+     * @return Left joins to the referenced rows used by {@link #getProjectionSelect()}
+     *         (empty when the table has no references)
+     */
+    public String getProjectionJoins() {
+        StringBuilder joins = new StringBuilder();
+        for (int i = 0; i < referenceIds.size(); i++) {
+            joins.append(" left join e.").append(referenceIds.get(i).getRelationship().getFieldName())
+                    .append(" r").append(i);
+        }
+        return joins.toString();
+    }
+
+    /** @return Read-only snapshot of the table metadata */
+    public Map<String, Object> getMetadata() { return metadata; }
+
+    /**
+     * @return Read-only template entries shared by all files of this table
+     *         ("table", "tableModel" and the metadata entries)
+     */
+    public Map<String, Object> getBaseModel() { return baseModel; }
+
+    private static String toFieldName(String columnName) {
+        StringBuilder out = new StringBuilder();
+        boolean cap = false;
+        for (char c : columnName.toCharArray()) {
+            if (c == '_' || c == '-' || c == ' ') {
+                cap = out.length() > 0;
+            } else {
+                out.append(cap ? Character.toUpperCase(c) : Character.toLowerCase(c));
+                cap = false;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Id of a referenced row as exposed by DTOs (e.g., "customerId" for the "customer" relationship).
+     */
+    public static final class ReferenceId {
+        private final Relationship relationship;
+        private final String fieldName;
+        private final String javaType;
+        private final String targetField;
+        private final boolean nullable;
+
+        private ReferenceId(Relationship relationship, String fieldName, String javaType, String targetField,
+                            boolean nullable) {
+            this.relationship = relationship;
+            this.fieldName = fieldName;
+            this.javaType = javaType;
+            this.targetField = targetField;
+            this.nullable = nullable;
+        }
+
+        /** @return The owning relationship */
+        public Relationship getRelationship() { return relationship; }
+
+        /** @return DTO component name (relationship field name + "Id") */
+        public String getFieldName() { return fieldName; }
+
+        /** @return Java type of the id, taken from the FK column */
+        public String getJavaType() { return javaType; }
+
+        /** @return Field name of the referenced primary key on the target entity */
+        public String getTargetField() { return targetField; }
+
+        /** @return Whether the FK column accepts nulls (true when the column is not declared) */
+        public boolean isNullable() { return nullable; }
+    }
+}
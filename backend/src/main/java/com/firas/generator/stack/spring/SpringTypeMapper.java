@@ -68,7 +68,10 @@ public class SpringTypeMapper implements TypeMapper {
         mappings.put("BLOB", "byte[]");
         mappings.put("BINARY", "byte[]");
         mappings.put("VARBINARY", "byte[]");
+        mappings.put("TINYBLOB", "byte[]");
+        mappings.put("MEDIUMBLOB", "byte[]");
         mappings.put("LONGBLOB", "byte[]");
+        mappings.put("BYTEA", "byte[]");
         
         // UUID
         mappings.put("UUID", "UUID");
@@ -0,0 +1,93 @@
+package com.firas.generator.util;
+
+import com.firas.generator.stack.FileSink;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * FileSink that writes every generated file straight into a ZIP entry.
+ *
+ * The Writer returned for each file encodes characters directly into the open
+ * ZipEntry, so no String or byte array copy of the file content is ever built.
+ * All entries are placed under a root folder named after the project.
+ *
+ * Closing the sink finishes the ZIP archive but leaves the underlying output
+ * stream open, so it can be used with servlet response streams.
+ *
+ * @author Firas Baklouti
+ * @version 1.0
+ * @since 2025-12-07
+ */
+public class ZipFileSink implements FileSink, AutoCloseable {
+
+    private final ZipOutputStream zos;
+    private final String rootFolder;
+    private final Set<String> entryNames = new HashSet<>();
+
+    /**
+     * @param out Stream receiving the ZIP archive
+     * @param rootFolder Name of the root folder in the ZIP
+     */
+    public ZipFileSink(OutputStream out, String rootFolder) {
+        this.zos = new ZipOutputStream(out);
+        this.rootFolder = rootFolder;
+    }
+
+    @Override
+    public Writer openFile(String path, String language) throws IOException {
+        // Normalize path
+        String filePath = path.replace("\\", "/");
+        if (filePath.startsWith("/")) {
+            filePath = filePath.substring(1);
+        }
+        String entryPath = rootFolder + "/" + filePath;
+
+        // A path generated twice keeps its first content instead of failing the whole archive
+        if (!entryNames.add(entryPath)) {
+            return Writer.nullWriter();
+        }
+
+        zos.putNextEntry(new ZipEntry(entryPath));
+        return new OutputStreamWriter(new EntryOutputStream(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        zos.finish();
+        zos.flush();
+    }
+
+    /**
+     * Stream over the currently open entry; closing it closes the entry, not the archive.
+     */
+    private class EntryOutputStream extends OutputStream {
+
+        private boolean closed;
+
+        @Override
+        public void write(int b) throws IOException {
+            zos.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            zos.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                zos.closeEntry();
+            }
+        }
+    }
+}
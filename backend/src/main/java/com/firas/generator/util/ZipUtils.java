@@ -5,7 +5,6 @@ import com.firas.generator.model.FilePreview;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -82,33 +81,17 @@ public class ZipUtils {
             throw new IllegalArgumentException("Project name cannot be null or empty");
         }
         
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             ZipOutputStream zos = new ZipOutputStream(baos)) {
-            
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ZipFileSink sink = new ZipFileSink(baos, projectName)) {
             for (FilePreview file : files) {
                 if (file == null || file.getPath() == null) {
                     continue;
                 }
                 
-                // Normalize path
-                String filePath = file.getPath().replace("\\", "/");
-                if (filePath.startsWith("/")) {
-                    filePath = filePath.substring(1);
-                }
-                
-                // Create entry with project name prefix
-                String entryPath = projectName + "/" + filePath;
-                zos.putNextEntry(new ZipEntry(entryPath));
-                
-                // Write content
-                String content = file.getContent() != null ? file.getContent() : "";
-                zos.write(content.getBytes(StandardCharsets.UTF_8));
-                zos.closeEntry();
+                // Content is encoded straight into the entry, without a getBytes() copy
+                sink.write(file);
             }
-            
-            zos.finish();
-            return baos.toByteArray();
         }
+        return baos.toByteArray();
     }
 }
-
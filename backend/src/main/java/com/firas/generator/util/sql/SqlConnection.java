@@ -1,8 +1,18 @@
 package com.firas.generator.util.sql;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.sql.Connection;
 import java.sql.SQLException;
 
 public interface SqlConnection {
-    public Connection getConnection(String sql) throws SQLException;
+    public default Connection getConnection(String sql) throws SQLException {
+        return getConnection(new StringReader(sql));
+    }
+
+    /**
+     * Executes the SQL read from the given reader statement by statement and
+     * returns an open connection to the resulting schema.
+     */
+    public Connection getConnection(Reader sql) throws SQLException;
 }
@@ -5,8 +5,10 @@ import com.firas.generator.util.sql.implementation.MysqlConnection;
 import com.firas.generator.util.sql.implementation.PostgresqlConnection;
 import org.springframework.stereotype.Component;
 
+import java.io.Reader;
 import java.sql.*;
 import java.util.*;
+import java.util.function.Consumer;
 
 @Component
 public class SqlParser {
@@ -17,7 +19,31 @@ public class SqlParser {
 
     public List<Table> parseSql(String sql, String dialect) throws SQLException {
         SqlConnection conn = SqlConnectionFactory.get(dialect);
-        return loadMetadata(conn.getConnection(sql));
+        try (Connection connection = conn.getConnection(sql)) {
+            return loadMetadata(connection);
+        }
+    }
+
+    /**
+     * Parses SQL read incrementally from the given reader and hands every table to the sink.
+     *
+     * The script is executed statement by statement as it is read, so the full SQL text is
+     * never held in memory. A table is only complete once relationships have been resolved
+     * against the whole schema, so tables are delivered to the sink one at a time right after
+     * that pass, letting callers serialise each one without building a response list.
+     *
+     * @param sql Reader over the SQL statements
+     * @param dialect The SQL dialect ("mysql" or "postgresql")
+     * @param sink Consumer receiving each completed table in schema order
+     * @throws SQLException If the schema cannot be loaded or its metadata read
+     */
+    public void parseSql(Reader sql, String dialect, Consumer<Table> sink) throws SQLException {
+        SqlConnection conn = SqlConnectionFactory.get(dialect);
+        try (Connection connection = conn.getConnection(sql)) {
+            for (Table table : loadMetadata(connection)) {
+                sink.accept(table);
+            }
+        }
     }
 
 
@@ -63,7 +89,7 @@ public class SqlParser {
                     col.setFieldName(toFieldName(colName));
 
                     String sqlType = rs.getString("TYPE_NAME");
-                    col.setType(sqlType != null ? sqlType : "");
+                    col.setType(sqlType != null ? declaredType(sqlType, rs.getInt("COLUMN_SIZE"), rs.getInt("DECIMAL_DIGITS")) : "");
 
                     col.setJavaType(mapJavaType(sqlType));
 
@@ -173,13 +199,14 @@ public class SqlParser {
 
                 if (t1 != null && t2 != null) {
 
+                    // Both sides name the join table's own columns, as @JoinTable expects
                     // t1 → t2
                     Relationship r1 = new Relationship(RelationshipType.MANY_TO_MANY,
                             t1.getName(), t2.getName());
 
                     r1.setJoinTable(table.getName());
                     r1.setSourceColumn(fk1.getName());
-                    r1.setTargetColumn(fk2.getReferencedColumn());
+                    r1.setTargetColumn(fk2.getName());
                     r1.setFieldName(plural(toFieldName(t2.getName())));
                     r1.setTargetClassName(t2.getClassName());
                     t1.addRelationship(r1);
@@ -190,7 +217,7 @@ public class SqlParser {
 
                     r2.setJoinTable(table.getName());
                     r2.setSourceColumn(fk2.getName());
-                    r2.setTargetColumn(fk1.getReferencedColumn());
+                    r2.setTargetColumn(fk1.getName());
                     r2.setFieldName(plural(toFieldName(t1.getName())));
                     r2.setTargetClassName(t1.getClassName());
                     t2.addRelationship(r2);
@@ -283,6 +310,20 @@ public class SqlParser {
         return s + "s";
     }
 
+    /**
+     * Type name with the declared length or precision, e.g. VARCHAR(2000) or NUMERIC(10,4).
+     * Unbounded types are reported with a sentinel size and keep the bare name.
+     */
+    private String declaredType(String typeName, int size, int digits) {
+        return switch (typeName.toLowerCase()) {
+            case "varchar", "character varying", "char", "character", "nvarchar", "nchar", "varbinary", "binary" ->
+                    size > 0 && size < Integer.MAX_VALUE ? typeName + "(" + size + ")" : typeName;
+            case "decimal", "numeric" ->
+                    size > 0 && size <= 1000 ? typeName + "(" + size + "," + Math.max(0, digits) + ")" : typeName;
+            default -> typeName;
+        };
+    }
+
     private String mapJavaType(String type) {
         if (type == null) return "String";
         String t = type.toUpperCase();
@@ -0,0 +1,85 @@
+package com.firas.generator.util.sql;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Splits a stream of SQL into individual statements without buffering the whole script.
+ *
+ * Statements are separated on ';', the same rule the connections previously applied
+ * with String.split(";"). Only the statement currently being read is held in memory,
+ * so arbitrarily large schema dumps can be executed straight from a request body.
+ * Blank statements are skipped and every returned statement is trimmed.
+ *
+ * @author Firas Baklouti
+ * @version 1.0
+ * @since 2025-12-01
+ */
+public class SqlStatementReader implements Iterable<String> {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+
+    public SqlStatementReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader, BUFFER_SIZE);
+    }
+
+    /**
+     * Reads the next non-blank statement from the underlying reader.
+     *
+     * @return The trimmed statement, or null once the input is exhausted
+     * @throws IOException If the underlying reader fails
+     */
+    public String nextStatement() throws IOException {
+        StringBuilder current = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == ';') {
+                String statement = current.toString().trim();
+                if (!statement.isEmpty()) {
+                    return statement;
+                }
+                current.setLength(0);
+            } else {
+                current.append((char) c);
+            }
+        }
+        String statement = current.toString().trim();
+        return statement.isEmpty() ? null : statement;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private String next = read();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public String next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                String result = next;
+                next = read();
+                return result;
+            }
+
+            private String read() {
+                try {
+                    return nextStatement();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read SQL statement", e);
+                }
+            }
+        };
+    }
+}
@@ -1,7 +1,10 @@
 package com.firas.generator.util.sql.implementation;
 
 import com.firas.generator.util.sql.SqlConnection;
+import com.firas.generator.util.sql.SqlStatementReader;
 
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -46,7 +49,7 @@ public class MysqlConnection implements SqlConnection {
     }
 
     @Override
-    public Connection getConnection(String sql) throws SQLException {
+    public Connection getConnection(Reader sql) throws SQLException {
 
         // 1. Drop/Create DB using root connection (without try-with-resources on final conn)
         String adminUrl =
@@ -64,9 +67,8 @@ public class MysqlConnection implements SqlConnection {
         Connection conn = DriverManager.getConnection(url, user, pass);
 
         // 3. Execute SQL dump
-        for (String stmt : sql.split(";")) {
-            String trimmed = stmt.trim();
-            if (!trimmed.isEmpty()) {
+        try {
+            for (String trimmed : new SqlStatementReader(sql)) {
                 try {
                     conn.prepareStatement(trimmed).execute();
                 } catch (SQLException e) {
@@ -74,6 +76,9 @@ public class MysqlConnection implements SqlConnection {
                     e.printStackTrace();
                 }
             }
+        } catch (UncheckedIOException e) {
+            conn.close();
+            throw new SQLException("Failed to read SQL input", e.getCause());
         }
 
         // 4. Return the OPEN connection
@@ -1,7 +1,10 @@
 package com.firas.generator.util.sql.implementation;
 
 import com.firas.generator.util.sql.SqlConnection;
+import com.firas.generator.util.sql.SqlStatementReader;
 
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -14,7 +17,7 @@ public class PostgresqlConnection implements SqlConnection {
     private final String host   = System.getenv("POSTGRESQL_DB_HOST");
 
     @Override
-    public Connection getConnection(String sql) throws SQLException {
+    public Connection getConnection(Reader sql) throws SQLException {
         System.out.println("=== PostgreSQL Parser ===");
         System.out.println("Host: " + host);
         System.out.println("DB: " + dbName);
@@ -64,9 +67,8 @@ public class PostgresqlConnection implements SqlConnection {
         Connection conn = DriverManager.getConnection(url, user, pass);
 
         // --- 3. EXECUTE ALL SQL STATEMENTS ---
-        for (String stmt : sql.split(";")) {
-            String trimmed = stmt.trim();
-            if (!trimmed.isEmpty()) {
+        try {
+            for (String trimmed : new SqlStatementReader(sql)) {
                 try {
                     System.out.println("Executing PostgreSQL: " + (trimmed.length() > 80 ? trimmed.substring(0, 80) + "..." : trimmed));
                     conn.prepareStatement(trimmed).execute();
@@ -75,6 +77,9 @@ public class PostgresqlConnection implements SqlConnection {
                     e.printStackTrace();
                 }
             }
+        } catch (UncheckedIOException e) {
+            conn.close();
+            throw new SQLException("Failed to read SQL input", e.getCause());
         }
 
         // --- 4. RETURN AN OPEN CONNECTION ---
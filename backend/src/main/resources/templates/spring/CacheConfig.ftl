@@ -0,0 +1,62 @@
+package ${packageName}.config;
+
+<#if hasRedis>
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+<#else>
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+</#if>
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+<#if hasRedis>
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+</#if>
+
+import java.time.Duration;
+<#if !hasRedis>
+import java.util.List;
+</#if>
+
+/**
+ * Caches of the service layer: one cache of DTOs by id and one of the full DTO list per entity.
+ * Services evict both on every write, so the time to live only bounds staleness from other writers.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+<#if hasRedis>
+    @Bean
+    public RedisCacheManagerBuilderCustomizer cacheManagerCustomizer() {
+        // Redis is bounded by its maxmemory policy, so only the time to live applies per cache
+        return builder -> {
+<#list caches as cache>
+            builder.withCacheConfiguration("${cache.name}",
+                    RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofSeconds(${cache.ttlSeconds?c})));
+</#list>
+        };
+    }
+<#else>
+    @Bean
+    public CacheManager cacheManager() {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+<#list caches as cache>
+                cache("${cache.name}", ${cache.ttlSeconds?c}, ${cache.maxSize?c})<#sep>,</#sep>
+</#list>
+        ));
+        return cacheManager;
+    }
+
+    private static CaffeineCache cache(String name, long ttlSeconds, long maxSize) {
+        return new CaffeineCache(name, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build());
+    }
+</#if>
+}
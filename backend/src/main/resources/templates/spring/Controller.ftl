@@ -2,13 +2,90 @@ package ${packageName}.controller;
 
 import ${packageName}.entity.${table.className};
 import ${packageName}.service.${table.className}Service;
+<#if includeDto>
+import ${packageName}.dto.${table.className}Dto;
+</#if>
+<#if includeMapper>
+import ${packageName}.mapper.${table.className}Mapper;
+</#if>
+<#if springConfig.observability>
+import io.micrometer.core.annotation.Timed;
+</#if>
+<#if springConfig.nativeImage>
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+</#if>
+<#if springConfig.streamingExport>
+import ${basePackageName}.util.ExportWriter;
+</#if>
+<#if springConfig.streamingImport>
+import ${basePackageName}.util.ImportReader;
+import ${basePackageName}.util.ImportReport;
+</#if>
+<#-- Optimistic locking: the row version is the ETag of reads and the precondition of writes -->
+<#assign locking = tableModel.versionColumn?? && tableModel.pkColumn??>
+<#-- Writes load their row from the primary; a replica may still hold an older version -->
+<#assign writeLookup = springConfig.readReplica?then("findByIdForWrite", "findById")>
+<#if springConfig.streamingExport || springConfig.streamingImport || locking>
+import org.springframework.http.HttpHeaders;
+</#if>
+<#assign sparse = springConfig.sparseFieldsets>
+<#assign filtering = springConfig.filterEndpoints && (tableModel.uniqueColumns?has_content || tableModel.referenceIds?has_content)>
+<#assign filterTypes = tableModel.uniqueColumns?map(column -> column.javaType) + tableModel.referenceIds?map(ref -> ref.javaType)>
+<#assign filterDates = filtering && (filterTypes?seq_contains("LocalDate") || filterTypes?seq_contains("LocalDateTime") || filterTypes?seq_contains("LocalTime"))>
+<#if locking>
+import org.springframework.dao.OptimisticLockingFailureException;
+</#if>
+<#if filterDates>
+import org.springframework.format.annotation.DateTimeFormat;
+</#if>
+<#if locking || sparse || filtering>
+import org.springframework.http.HttpStatus;
+</#if>
+<#if sparse || filtering>
+import org.springframework.web.server.ResponseStatusException;
+</#if>
+<#if filtering>
+<#list tableModel.valueImports as valueImport>
+import ${valueImport};
+</#list>
+</#if>
+<#if springConfig.streamingExport>
+import org.springframework.http.MediaType;
+</#if>
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+<#if springConfig.streamingExport>
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+</#if>
 <#if securityEnabled?? && securityEnabled>
 import org.springframework.security.access.prepost.PreAuthorize;
 </#if>
+<#assign keyset = springConfig.keysetPagination && tableModel.pkColumn??>
+<#-- With DTOs enabled, reads return projections instead of entity graphs -->
+<#assign view = includeDto?then(table.className + "Dto", table.className)>
+<#assign dtoById = includeDto && tableModel.pkColumn??>
+<#if springConfig.paginationEnabled>
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+</#if>
 
+<#if springConfig.streamingImport>
+import java.io.IOException;
+import java.io.InputStream;
+</#if>
+<#if sparse>
+import java.util.Arrays;
+</#if>
 import java.util.List;
+<#if sparse>
+import java.util.Map;
+</#if>
+<#if locking>
+import java.util.Objects;
+</#if>
+<#if sparse>
+import java.util.Set;
+</#if>
 
 <#-- 
   Macro to find security rule for a given HTTP method.
@@ -45,10 +122,46 @@ import java.util.List;
 </#if>
 </#macro>
 
+<#if springConfig.nativeImage>
+// Native image: reflection metadata for the JSON bodies<#if includeDto> and the DTO constructor projections</#if>
+@RegisterReflectionForBinding(<#if includeDto>{${table.className}.class, ${table.className}Dto.class}<#else>${table.className}.class</#if>)
+</#if>
+<#if springConfig.observability>
+// One timer per endpoint (tagged with the method name) with a histogram for percentiles
+@Timed(value = "api.${table.className?lower_case}", histogram = true)
+</#if>
 @RestController
 @RequestMapping("/api/${table.className?lower_case}s")
 public class ${table.className}Controller {
+<#if keyset>
+
+    private static final int MAX_PAGE_SIZE = ${springConfig.maxPageSize?c};
+</#if>
 
+<#if springConfig.streamingExport>
+    // Column order of the export files
+    private static final String[] EXPORT_COLUMNS = {
+<#list tableModel.dtoColumns as column>
+            "${column.fieldName}"<#sep>,</#sep><#if !column?has_next && tableModel.referenceIds?has_content>,</#if>
+</#list>
+<#list tableModel.referenceIds as ref>
+            "${ref.fieldName}"<#sep>,</#sep>
+</#list>
+    };
+
+</#if>
+<#if sparse>
+    // Fields ?fields= may select: the DTO columns plus the ids of referenced rows
+    private static final Set<String> SELECTABLE_FIELDS = Set.of(
+<#list tableModel.dtoColumns as column>
+            "${column.fieldName}"<#sep>,</#sep><#if !column?has_next && tableModel.referenceIds?has_content>,</#if>
+</#list>
+<#list tableModel.referenceIds as ref>
+            "${ref.fieldName}"<#sep>,</#sep>
+</#list>
+    );
+
+</#if>
     private final ${table.className}Service service;
 
     public ${table.className}Controller(${table.className}Service service) {
@@ -61,18 +174,200 @@ public class ${table.className}Controller {
     <#assign readRule = ruleResult>
     <@preAuthorize ruleValue=readRule defaultPermission="${entityUpper}_READ"/>
 </#if>
+<#if locking>
+<#assign versionType = tableModel.versionColumn.javaType>
+<#assign versionOf = includeDto?then(tableModel.versionColumn.fieldName + "()", "get" + tableModel.versionColumn.fieldName?cap_first + "()")>
+<#assign idOf = includeDto?then(tableModel.pkField + "()", "get" + tableModel.pkField?cap_first + "()")>
+</#if>
+<#if springConfig.paginationEnabled>
+    // Page size defaults and limits come from spring.data.web.pageable.* in application.properties
     @GetMapping
-    public List<${table.className}> getAll() {
-        return service.findAll();
+<#if locking>
+    public ResponseEntity<Slice<${view}>> getAll(Pageable pageable) {
+        Slice<${view}> page = service.${includeDto?then("findAllDtos", "findAll")}(pageable);
+        // A matching If-None-Match is answered with 304 before the page is serialized
+        return ResponseEntity.ok().eTag(listEtag(page.getContent(), page.hasNext())).body(page);
+    }
+<#else>
+    public Slice<${view}> getAll(Pageable pageable) {
+        return service.${includeDto?then("findAllDtos", "findAll")}(pageable);
     }
+</#if>
+<#else>
+    @GetMapping
+<#if locking>
+    public ResponseEntity<List<${view}>> getAll() {
+        List<${view}> rows = service.${includeDto?then("findAllDtos", "findAll")}();
+        // A matching If-None-Match is answered with 304 before the list is serialized
+        return ResponseEntity.ok().eTag(listEtag(rows, false)).body(rows);
+    }
+<#else>
+    public List<${view}> getAll() {
+        return service.${includeDto?then("findAllDtos", "findAll")}();
+    }
+</#if>
+</#if>
+<#if sparse>
+
+    /**
+     * Sparse fieldset, e.g. {@code ?fields=id,name}: only the listed columns are selected from the database.
+     */
+<#if securityEnabled?? && securityEnabled>
+    <@preAuthorize ruleValue=readRule defaultPermission="${entityUpper}_READ"/>
+</#if>
+    @GetMapping(params = "fields")
+<#if springConfig.paginationEnabled>
+    public Slice<Map<String, Object>> getAllFields(@RequestParam String fields, Pageable pageable) {
+        return service.findAllFields(selectedFields(fields), pageable);
+    }
+<#else>
+    public List<Map<String, Object>> getAllFields(@RequestParam String fields) {
+        return service.findAllFields(selectedFields(fields));
+    }
+</#if>
+<#if tableModel.pkColumn??>
+
+<#if securityEnabled?? && securityEnabled>
+    <@preAuthorize ruleValue=readRule defaultPermission="${entityUpper}_READ"/>
+</#if>
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getFieldsById(@PathVariable ${tableModel.pkType} id, @RequestParam String fields) {
+        return service.findFieldsById(id, selectedFields(fields))
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+</#if>
+
+    private static List<String> selectedFields(String fields) {
+        List<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .distinct()
+                .toList();
+        if (selected.isEmpty() || !SELECTABLE_FIELDS.containsAll(selected)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fields must be a subset of " + SELECTABLE_FIELDS);
+        }
+        return selected;
+    }
+</#if>
+<#if filtering>
+<#assign filterFields = tableModel.uniqueColumns?map(column -> column.fieldName) + tableModel.referenceIds?map(ref -> ref.fieldName)>
+
+    /**
+     * Equality filters combined with AND, limited to indexed columns: ${filterFields?join(", ")}.
+     * At least one is required, so the endpoint never lists the whole table.
+     */
+<#if securityEnabled?? && securityEnabled>
+    <@preAuthorize ruleValue=readRule defaultPermission="${entityUpper}_READ"/>
+</#if>
+    @GetMapping("/filter")
+    public <#if springConfig.paginationEnabled>Slice<#else>List</#if><${view}> filter(
+<#list 0..<filterFields?size as i>
+<#assign filterType = filterTypes[i]>
+            <#if filterType == "LocalDate">@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) <#elseif filterType == "LocalDateTime">@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) <#elseif filterType == "LocalTime">@DateTimeFormat(iso = DateTimeFormat.ISO.TIME) </#if>@RequestParam(required = false) ${filterType} ${filterFields[i]}<#if i?has_next || springConfig.paginationEnabled>,</#if>
+</#list>
+<#if springConfig.paginationEnabled>
+            Pageable pageable) {
+<#else>
+            ) {
+</#if>
+        if (<#list filterFields as field>${field} == null<#sep> && </#sep></#list>) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one filter is required: ${filterFields?join(", ")}");
+        }
+<#if springConfig.paginationEnabled>
+        return service.filter(${filterFields?join(", ")}, pageable)<#if includeMapper>.map(${table.className}Mapper::toDto)<#elseif includeDto>.map(${view}::from)</#if>;
+<#else>
+<#if includeMapper>
+        return ${table.className}Mapper.toDtoList(service.filter(${filterFields?join(", ")}));
+<#elseif includeDto>
+        return service.filter(${filterFields?join(", ")}).stream().map(${view}::from).toList();
+<#else>
+        return service.filter(${filterFields?join(", ")});
+</#if>
+</#if>
+    }
+</#if>
+<#if keyset>
+
+<#if securityEnabled?? && securityEnabled>
+    <@preAuthorize ruleValue=readRule defaultPermission="${entityUpper}_READ"/>
+</#if>
+    @GetMapping("/seek")
+    public ResponseEntity<List<${view}>> seek(
+            @RequestParam(required = false) ${tableModel.pkType} after,
+            @RequestParam(defaultValue = "${springConfig.defaultPageSize?c}") int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<${view}> items = service.${includeDto?then("findDtosAfter", "findAfter")}(after, limit);
+
+        // A full page means there may be more rows after the last key
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (items.size() == limit) {
+            response.header("X-Next-After", String.valueOf(items.get(limit - 1).<#if includeDto>${tableModel.pkField}()<#else>get${tableModel.pkField?cap_first}()</#if>));
+        }
+        return response.body(items);
+    }
+</#if>
+
+<#if springConfig.streamingExport>
+
+    /**
+     * Streams the whole table as NDJSON (default) or CSV ({@code ?format=csv}).
+     * Rows are read through a cursor and written as they arrive, so memory use does not grow with the table.
+     */
+<#if securityEnabled?? && securityEnabled>
+    <@preAuthorize ruleValue=readRule defaultPermission="${entityUpper}_READ"/>
+</#if>
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        StreamingResponseBody body = out -> {
+            try (ExportWriter writer = csv ? ExportWriter.csv(out, EXPORT_COLUMNS) : ExportWriter.ndjson(out, EXPORT_COLUMNS)) {
+                service.exportAll(row -> writer.write(exportRow(row)));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(csv ? "text/csv" : "application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"${table.className?lower_case}s." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
+<#if includeDto>
+    private static Object[] exportRow(${table.className}Dto row) {
+        return new Object[] {
+<#list tableModel.dtoColumns as column>
+                row.${column.fieldName}()<#sep>,</#sep><#if !column?has_next && tableModel.referenceIds?has_content>,</#if>
+</#list>
+<#list tableModel.referenceIds as ref>
+                row.${ref.fieldName}()<#sep>,</#sep>
+</#list>
+        };
+    }
+<#else>
+    // Referenced rows contribute their id only, read from the proxy without loading it
+    private static Object[] exportRow(${table.className} row) {
+        return new Object[] {
+<#list tableModel.dtoColumns as column>
+                row.get${column.fieldName?cap_first}()<#sep>,</#sep><#if !column?has_next && tableModel.referenceIds?has_content>,</#if>
+</#list>
+<#list tableModel.referenceIds as ref>
+                row.get${ref.relationship.fieldName?cap_first}() != null ? row.get${ref.relationship.fieldName?cap_first}().get${ref.targetField?cap_first}() : null<#sep>,</#sep>
+</#list>
+        };
+    }
+</#if>
+</#if>
 
 <#if securityEnabled?? && securityEnabled>
     <@preAuthorize ruleValue=readRule defaultPermission="${entityUpper}_READ"/>
 </#if>
     @GetMapping("/{id}")
-    public ResponseEntity<${table.className}> getById(@PathVariable <#list table.columns as col><#if col.primaryKey>${col.javaType}</#if></#list> id) {
-        return service.findById(id)
+    public ResponseEntity<${dtoById?then(view, table.className)}> getById(@PathVariable ${tableModel.pkType} id) {
+        return service.${dtoById?then("findDtoById", "findById")}(id)
+<#if locking>
+                .map(row -> ResponseEntity.ok().eTag(etag(row.${versionOf})).body(row))
+<#else>
                 .map(ResponseEntity::ok)
+</#if>
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -82,9 +377,92 @@ public class ${table.className}Controller {
     <@preAuthorize ruleValue=writeRule defaultPermission="${entityUpper}_WRITE"/>
 </#if>
     @PostMapping
+<#if includeMapper>
+    public ${view} create(@RequestBody ${view} dto) {
+        return ${table.className}Mapper.toDto(service.save(${table.className}Mapper.toEntity(dto)));
+    }
+<#elseif includeDto>
+    public ${view} create(@RequestBody ${table.className} entity) {
+        return ${view}.from(service.save(entity));
+    }
+<#else>
     public ${table.className} create(@RequestBody ${table.className} entity) {
         return service.save(entity);
     }
+</#if>
+<#if springConfig.bulkWrites>
+
+<#if securityEnabled?? && securityEnabled>
+    <@preAuthorize ruleValue=writeRule defaultPermission="${entityUpper}_WRITE"/>
+</#if>
+    // Bulk load: saved in JDBC batches within one transaction
+    @PostMapping("/batch")
+<#if includeMapper>
+    public List<${view}> createAll(@RequestBody List<${view}> dtos) {
+        List<${table.className}> entities = dtos.stream().map(${table.className}Mapper::toEntity).toList();
+        return ${table.className}Mapper.toDtoList(service.saveAll(entities));
+    }
+<#elseif includeDto>
+    public List<${view}> createAll(@RequestBody List<${table.className}> entities) {
+        return service.saveAll(entities).stream().map(${view}::from).toList();
+    }
+<#else>
+    public List<${table.className}> createAll(@RequestBody List<${table.className}> entities) {
+        return service.saveAll(entities);
+    }
+</#if>
+</#if>
+<#if springConfig.streamingImport>
+
+    /**
+     * Loads NDJSON (default) or CSV ({@code Content-Type: text/csv}, header row first) while it is uploaded.
+     * Invalid rows are skipped and listed in the report with their line number; valid rows are still stored.
+     */
+<#if securityEnabled?? && securityEnabled>
+    <@preAuthorize ruleValue=writeRule defaultPermission="${entityUpper}_WRITE"/>
+</#if>
+    @PostMapping("/import")
+    public ImportReport importRows(@RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                   InputStream body) throws IOException {
+        boolean csv = contentType != null && contentType.toLowerCase().startsWith("text/csv");
+        try (ImportReader reader = csv ? ImportReader.csv(body) : ImportReader.ndjson(body)) {
+            return service.importRows(reader);
+        }
+    }
+</#if>
+<#if includeMapper && tableModel.pkColumn??>
+
+<#if securityEnabled?? && securityEnabled>
+    <@findSecurityRule httpMethod="PUT"/>
+    <#assign updateRule = ruleResult>
+    <@preAuthorize ruleValue=updateRule defaultPermission="${entityUpper}_WRITE"/>
+</#if>
+    @PutMapping("/{id}")
+<#if locking>
+    public ResponseEntity<${view}> update(@PathVariable ${tableModel.pkType} id, @RequestBody ${view} dto,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.${writeLookup}(id)
+                .map(entity -> {
+                    if (!matches(ifMatch, entity.get${tableModel.versionColumn.fieldName?cap_first}())) {
+                        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).<${view}>build();
+                    }
+                    ${table.className}Mapper.updateEntity(dto, entity);
+                    ${view} saved = ${table.className}Mapper.toDto(service.save(entity));
+                    return ResponseEntity.ok().eTag(etag(saved.${tableModel.versionColumn.fieldName}())).body(saved);
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+<#else>
+    public ResponseEntity<${view}> update(@PathVariable ${tableModel.pkType} id, @RequestBody ${view} dto) {
+        return service.${writeLookup}(id)
+                .map(entity -> {
+                    ${table.className}Mapper.updateEntity(dto, entity);
+                    return ResponseEntity.ok(${table.className}Mapper.toDto(service.save(entity)));
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+</#if>
+</#if>
 
 <#if securityEnabled?? && securityEnabled>
     <@findSecurityRule httpMethod="DELETE"/>
@@ -92,8 +470,57 @@ public class ${table.className}Controller {
     <@preAuthorize ruleValue=deleteRule defaultPermission="${entityUpper}_DELETE"/>
 </#if>
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable <#list table.columns as col><#if col.primaryKey>${col.javaType}</#if></#list> id) {
+<#if locking>
+    public ResponseEntity<Void> delete(@PathVariable ${tableModel.pkType} id,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch != null && service.${writeLookup}(id)
+                .filter(current -> !matches(ifMatch, current.get${tableModel.versionColumn.fieldName?cap_first}()))
+                .isPresent()) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
         service.deleteById(id);
         return ResponseEntity.ok().build();
     }
+
+    // Another write committed between this request's read and its update
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Void> concurrentWrite() {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+    }
+
+    // Strong ETag of one row: its version
+    private static String etag(${versionType} version) {
+        return "\"" + version + "\"";
+    }
+
+    // Weak ETag of a list: changes when a row is added, removed or updated
+    private static String listEtag(List<${view}> rows, boolean hasNext) {
+        long hash = hasNext ? 1 : 0;
+        for (${view} row : rows) {
+            hash = 31 * hash + Objects.hashCode(row.${idOf});
+            hash = 31 * hash + Objects.hashCode(row.${versionOf});
+        }
+        return "W/\"" + rows.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    // If-Match lists ETags or is "*"; without the header the write is unconditional
+    private static boolean matches(String ifMatch, ${versionType} version) {
+        if (ifMatch == null) {
+            return true;
+        }
+        String current = etag(version);
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+<#else>
+    public ResponseEntity<Void> delete(@PathVariable ${tableModel.pkType} id) {
+        service.deleteById(id);
+        return ResponseEntity.ok().build();
+    }
+</#if>
 }
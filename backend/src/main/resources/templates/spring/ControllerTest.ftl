@@ -2,6 +2,15 @@ package ${packageName}.controller;
 
 import ${packageName}.entity.${table.className};
 import ${packageName}.service.${table.className}Service;
+<#assign dto = includeDto>
+<#assign writeLookup = springConfig.readReplica?then("findByIdForWrite", "findById")>
+<#if dto>
+import ${packageName}.dto.${table.className}Dto;
+</#if>
+<#if includeMapper>
+import ${packageName}.mapper.${table.className}Mapper;
+</#if>
+<#assign toDto = includeMapper?then(table.className + "Mapper.toDto", table.className + "Dto.from")>
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +19,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+<#if springConfig.paginationEnabled>
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+</#if>
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
@@ -17,12 +30,9 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
-<#list table.columns as column>
-<#if column.primaryKey>
+<#if tableModel.pkColumn??>
 import static org.mockito.ArgumentMatchers.eq;
-<#break>
 </#if>
-</#list>
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doNothing;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -48,12 +58,10 @@ class ${table.className}ControllerTest {
     @BeforeEach
     void setUp() {
         ${table.className?uncap_first} = new ${table.className}();
-        <#list table.columns as column>
-        <#if column.primaryKey>
-        ${table.className?uncap_first}.set${column.fieldName?cap_first}(1L);
+        <#if tableModel.pkColumn??>
+        ${table.className?uncap_first}.set${tableModel.pkField?cap_first}(1L);
         </#if>
-        </#list>
-        <#list table.columns as column>
+        <#list tableModel.columns as column>
         <#if !column.primaryKey && !column.autoIncrement>
         // ${table.className?uncap_first}.set${column.fieldName?cap_first}(/* TODO: set test value */);
         </#if>
@@ -63,36 +71,52 @@ class ${table.className}ControllerTest {
     @Test
     @DisplayName("GET /api/${table.className?lower_case} - Should return all ${table.className} entities")
     void shouldGetAll${table.className}s() throws Exception {
+<#if dto>
+        List<${table.className}Dto> list = Arrays.asList(${toDto}(${table.className?uncap_first}));
+<#else>
         List<${table.className}> list = Arrays.asList(${table.className?uncap_first});
-        when(service.findAll()).thenReturn(list);
+</#if>
+<#assign findAll = dto?then("findAllDtos", "findAll")>
+<#if springConfig.paginationEnabled>
+        when(service.${findAll}(any(Pageable.class))).thenReturn(new SliceImpl<>(list));
+
+        mockMvc.perform(get("/api/${table.className?lower_case}"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(1));
+<#else>
+        when(service.${findAll}()).thenReturn(list);
 
         mockMvc.perform(get("/api/${table.className?lower_case}"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(1));
+</#if>
     }
 
     @Test
     @DisplayName("GET /api/${table.className?lower_case}/{id} - Should return ${table.className} by ID")
     void shouldGet${table.className}ById() throws Exception {
-        <#list table.columns as column>
-        <#if column.primaryKey>
+        <#if tableModel.pkColumn??>
+        <#if dto>
+        when(service.findDtoById(1L)).thenReturn(Optional.of(${toDto}(${table.className?uncap_first})));
+        <#else>
         when(service.findById(1L)).thenReturn(Optional.of(${table.className?uncap_first}));
+        </#if>
 
         mockMvc.perform(get("/api/${table.className?lower_case}/1"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.${column.fieldName}").value(1L));
-        <#break>
+                .andExpect(jsonPath("$.${tableModel.pkField}").value(1L));
         </#if>
-        </#list>
     }
 
     @Test
     @DisplayName("GET /api/${table.className?lower_case}/{id} - Should return 404 when not found")
     void shouldReturn404WhenNotFound() throws Exception {
-        when(service.findById(999L)).thenReturn(Optional.empty());
+        when(service.${(dto && tableModel.pkColumn??)?then("findDtoById", "findById")}(999L)).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/api/${table.className?lower_case}/999"))
                 .andExpect(status().isNotFound());
@@ -113,9 +137,8 @@ class ${table.className}ControllerTest {
     @Test
     @DisplayName("PUT /api/${table.className?lower_case}/{id} - Should update ${table.className}")
     void shouldUpdate${table.className}() throws Exception {
-        <#list table.columns as column>
-        <#if column.primaryKey>
-        when(service.findById(1L)).thenReturn(Optional.of(${table.className?uncap_first}));
+        <#if tableModel.pkColumn??>
+        when(service.${writeLookup}(1L)).thenReturn(Optional.of(${table.className?uncap_first}));
         when(service.save(any(${table.className}.class))).thenReturn(${table.className?uncap_first});
 
         mockMvc.perform(put("/api/${table.className?lower_case}/1")
@@ -123,23 +146,18 @@ class ${table.className}ControllerTest {
                         .content(objectMapper.writeValueAsString(${table.className?uncap_first})))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
-        <#break>
         </#if>
-        </#list>
     }
 
     @Test
     @DisplayName("DELETE /api/${table.className?lower_case}/{id} - Should delete ${table.className}")
     void shouldDelete${table.className}() throws Exception {
-        <#list table.columns as column>
-        <#if column.primaryKey>
-        when(service.findById(1L)).thenReturn(Optional.of(${table.className?uncap_first}));
+        <#if tableModel.pkColumn??>
+        when(service.${writeLookup}(1L)).thenReturn(Optional.of(${table.className?uncap_first}));
         doNothing().when(service).deleteById(1L);
 
         mockMvc.perform(delete("/api/${table.className?lower_case}/1"))
                 .andExpect(status().isNoContent());
-        <#break>
         </#if>
-        </#list>
     }
 }
@@ -1,5 +1,44 @@
+<#if springConfig?? && springConfig.nativeImage>
+# Build stage: compile a GraalVM native executable (Spring AOT + native-image)
+FROM ghcr.io/graalvm/native-image-community:${request.javaVersion!"17"} AS build
+WORKDIR /app
+
+# Copy Maven wrapper and pom.xml
+COPY mvnw .
+COPY .mvn .mvn
+COPY pom.xml .
+
+# Download dependencies
+RUN chmod +x ./mvnw
+RUN ./mvnw dependency:go-offline -B -Pnative
+
+# Copy source code
+COPY src src
+
+# Build the native executable
+RUN ./mvnw -Pnative native:compile -DskipTests
+
+# Runtime stage: glibc only, no JVM
+FROM gcr.io/distroless/base-debian12:nonroot
+WORKDIR /app
+
+# Copy the native executable
+COPY --from=build /app/target/${request.artifactId} app
+
+# Expose port
+EXPOSE 8080
+
+# No shell in this image: probe /actuator/health from the orchestrator
+
+# Run the application
+ENTRYPOINT ["/app/app"]
+<#else>
+<#assign javaVersion = request.javaVersion!"17">
+<#assign cds = springConfig?? && springConfig.classDataSharing>
+<#assign jlink = springConfig?? && springConfig.jlinkRuntime>
+<#assign ramPercentage = ((springConfig.maxRamPercentage)!75)?c>
 # Build stage
-FROM eclipse-temurin:${request.javaVersion!"17"}-jdk-alpine AS build
+FROM eclipse-temurin:${javaVersion}-jdk-alpine AS build
 WORKDIR /app
 
 # Copy Maven wrapper and pom.xml
@@ -17,17 +56,52 @@ COPY src src
 # Build the application
 RUN ./mvnw package -DskipTests
 
+# Split the jar into layers, from least to most frequently changed, so rebuilds reuse cached layers
+RUN cp target/*.jar target/app.jar \
+    && java -Djarmode=layertools -jar target/app.jar extract --destination target/extracted
+<#if jlink>
+
+# Trim the Java runtime to the modules the application uses
+RUN jdeps --ignore-missing-deps -q --recursive --multi-release ${javaVersion} --print-module-deps \
+        --class-path 'target/extracted/dependencies/BOOT-INF/lib/*' target/extracted/application/BOOT-INF/classes > modules.txt \
+    && jlink --add-modules "$(cat modules.txt),jdk.crypto.ec,jdk.management" \
+        --strip-debug --no-man-pages --no-header-files --compress=2<#if cds> --generate-cds-archive</#if> \
+        --output /javaruntime
+</#if>
+
 # Runtime stage
-FROM eclipse-temurin:${request.javaVersion!"17"}-jre-alpine
+<#if jlink>
+FROM alpine:3.19
+ENV JAVA_HOME=/opt/java/openjdk
+ENV PATH="${r"${JAVA_HOME}"}/bin:${r"${PATH}"}"
+COPY --from=build /javaruntime ${r"${JAVA_HOME}"}
+<#else>
+FROM eclipse-temurin:${javaVersion}-jre-alpine
+</#if>
 WORKDIR /app
 
+# Copy the layers, one image layer each
+COPY --from=build /app/target/extracted/dependencies/ ./
+COPY --from=build /app/target/extracted/spring-boot-loader/ ./
+COPY --from=build /app/target/extracted/snapshot-dependencies/ ./
+COPY --from=build /app/target/extracted/application/ ./
+
+# Container-aware heap sizing; fail fast on OOM so the orchestrator restarts the container
+ENV JAVA_OPTS="-XX:MaxRAMPercentage=${ramPercentage} -XX:InitialRAMPercentage=${ramPercentage} -XX:+ExitOnOutOfMemoryError"
+<#if cds>
+
+# Training run: start the context once, without a database, and archive the loaded classes.
+# Boot 3.3+ exits after the refresh; older versions are stopped by the timeout, which still dumps the archive.
+RUN timeout -s TERM 60 java -XX:ArchiveClassesAtExit=app.jsa -Dspring.context.exit=onRefresh \
+        -Dspring.jpa.hibernate.ddl-auto=none -Dspring.jpa.properties.hibernate.temp.use_jdbc_metadata_defaults=false \
+        -Dspring.flyway.enabled=false -Dspring.sql.init.mode=never \
+        -cp "BOOT-INF/classes:BOOT-INF/lib/*" ${mainClass} || true
+</#if>
+
 # Create a non-root user
 RUN addgroup -S spring && adduser -S spring -G spring
 USER spring:spring
 
-# Copy the built JAR
-COPY --from=build /app/target/*.jar app.jar
-
 # Expose port
 EXPOSE 8080
 
@@ -35,5 +109,6 @@ EXPOSE 8080
 HEALTHCHECK --interval=30s --timeout=3s --start-period=30s --retries=3 \
     CMD wget --no-verbose --tries=1 --spider http://localhost:8080/actuator/health || exit 1
 
-# Run the application
-ENTRYPOINT ["java", "-jar", "app.jar"]
+# Run the main class on the plain class path: no jar launcher, and class loading that CDS can archive
+ENTRYPOINT ["sh", "-c", "exec java $JAVA_OPTS<#if cds> -XX:SharedArchiveFile=app.jsa</#if> -cp 'BOOT-INF/classes:BOOT-INF/lib/*' ${mainClass}"]
+</#if>
@@ -0,0 +1,45 @@
+package ${packageName}.dto;
+
+<#if !includeMapper>
+import ${packageName}.entity.${table.className};
+</#if>
+<#if springConfig.cacheEnabled>
+import java.io.Serializable;
+</#if>
+<#list tableModel.valueImports as javaImport>
+import ${javaImport};
+</#list>
+
+/**
+ * Read model of {@link ${table.className}}: its columns plus the ids of the rows it references.
+ * Repositories fill it through constructor projections, so only these columns are selected.
+<#if springConfig.cacheEnabled>
+ * Services cache it, so it is serializable for out-of-process caches.
+</#if>
+ */
+public record ${table.className}Dto(
+<#list tableModel.dtoColumns as column>
+        ${column.javaType} ${column.fieldName}<#sep>,</#sep><#if !column?has_next && tableModel.referenceIds?has_content>,</#if>
+</#list>
+<#list tableModel.referenceIds as ref>
+        ${ref.javaType} ${ref.fieldName}<#sep>,</#sep>
+</#list>
+)<#if springConfig.cacheEnabled> implements Serializable</#if> {
+<#if !includeMapper>
+
+    // Generated without a mapper: convert here
+    public static ${table.className}Dto from(${table.className} entity) {
+        if (entity == null) {
+            return null;
+        }
+        return new ${table.className}Dto(
+<#list tableModel.dtoColumns as column>
+                entity.get${column.fieldName?cap_first}()<#sep>,</#sep><#if !column?has_next && tableModel.referenceIds?has_content>,</#if>
+</#list>
+<#list tableModel.referenceIds as ref>
+                entity.get${ref.relationship.fieldName?cap_first}() != null ? entity.get${ref.relationship.fieldName?cap_first}().get${ref.targetField?cap_first}() : null<#sep>,</#sep>
+</#list>
+        );
+    }
+</#if>
+}
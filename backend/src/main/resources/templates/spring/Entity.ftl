@@ -1,22 +1,14 @@
 package ${packageName}.entity;
 
 import jakarta.persistence.*;
-<#assign hasRelationships = (table.relationships?? && table.relationships?size > 0)>
-<#assign hasCollections = false>
-<#if hasRelationships>
-<#list table.relationships as rel>
-<#if rel.type == "ONE_TO_MANY" || rel.type == "MANY_TO_MANY">
-<#assign hasCollections = true>
-<#break>
+import org.hibernate.annotations.BatchSize;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+<#if tableModel.versionColumn??>
+import com.fasterxml.jackson.annotation.JsonProperty;
 </#if>
+<#list tableModel.imports as javaImport>
+import ${javaImport};
 </#list>
-</#if>
-<#if hasCollections>
-import java.util.List;
-import java.util.ArrayList;
-</#if>
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 
 <#if isUserDetails?? && isUserDetails>
 import org.springframework.security.core.GrantedAuthority;
@@ -29,68 +21,105 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 <#if rbacMode?? && rbacMode == "STATIC">
 import ${packageName}.security.Role;
 </#if>
-<#if table.relationships?? && table.relationships?size &gt; 0>
+<#if rbacMode?? && rbacMode == "DYNAMIC">
+import ${packageName}.security.PermissionResolver;
+</#if>
+<#if tableModel.singleRelationships?has_content || tableModel.collectionRelationships?has_content>
 import lombok.ToString; // Assuming Lombok is available/used or manual exclusion needed
 </#if>
 </#if>
 
+<#assign batchSize = springConfig.fetchBatchSize?c>
+<#-- Fetch plan: every association is lazy; graphs load what a read actually needs -->
 @Entity
+<#if tableModel.referenceIds?has_content>
+<#-- Same names as the migrations, so schema updates by Hibernate create the same indexes -->
+@Table(name = "${table.name}", indexes = {
+<#list tableModel.referenceIds as ref>
+    @Index(name = "idx_${table.name}_${ref.relationship.sourceColumn}", columnList = "${ref.relationship.sourceColumn}")<#sep>,</#sep>
+</#list>
+})
+<#else>
 @Table(name = "${table.name}")
+</#if>
+<#if tableModel.singleRelationships?has_content>
+@NamedEntityGraph(name = "${tableModel.referencesGraph}", attributeNodes = {
+<#list tableModel.singleRelationships as rel>
+    @NamedAttributeNode("${rel.fieldName}")<#sep>,</#sep>
+</#list>
+})
+</#if>
+<#list tableModel.collectionRelationships as rel>
+@NamedEntityGraph(name = "${tableModel.collectionGraph(rel)}", attributeNodes = {
+    @NamedAttributeNode("${rel.fieldName}")<#list tableModel.singleRelationships as single>,
+    @NamedAttributeNode("${single.fieldName}")</#list>
+})
+</#list>
+@BatchSize(size = ${batchSize})
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class ${table.className} <#if isUserDetails?? && isUserDetails>implements UserDetails</#if> {
 
-<#list table.columns as column>
-    <#if !column.foreignKey>
+<#list tableModel.columns as column>
     <#if column.primaryKey>
     @Id
+    <#if sequenceIds && (column.javaType == "Long" || column.javaType == "Integer")>
+    // Pooled sequence: one round trip reserves a block of ids, so inserts can be batched
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "${table.name}_seq")
+    @SequenceGenerator(name = "${table.name}_seq", sequenceName = "${table.name}_seq", allocationSize = ${springConfig.jdbcBatchSize?c})
+    <#else>
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     </#if>
+    </#if>
+    <#if tableModel.versionColumn?? && column.fieldName == tableModel.versionColumn.fieldName>
+    // Checked and incremented on every update; clients read it as the ETag but never set it
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    </#if>
     <#if isUserDetails?? && isUserDetails && column.fieldName == passwordField>
     @JsonIgnore
     // @ToString.Exclude // Uncomment if using Lombok
     </#if>
-    @Column(name = "${column.name}")
+    @Column(name = "${column.name}"<#if column.unique && !column.primaryKey>, unique = true</#if>)
     private ${column.javaType} ${column.fieldName};
 
-    </#if>
 </#list>
 
-<#if hasRelationships>
-<#list table.relationships as rel>
+<#list table.relationships![] as rel>
     <#if rel.type == "MANY_TO_ONE">
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "${rel.sourceColumn}")
     private ${rel.targetClassName} ${rel.fieldName};
 
     <#elseif rel.type == "ONE_TO_MANY">
     @OneToMany(mappedBy = "${rel.mappedBy}")
-    private List<${rel.targetClassName}> ${rel.fieldName} = new ArrayList<>();
+    @BatchSize(size = ${batchSize})
+    private Set<${rel.targetClassName}> ${rel.fieldName} = new HashSet<>();
 
     <#elseif rel.type == "ONE_TO_ONE">
     <#if rel.sourceColumn??>
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "${rel.sourceColumn}")
     private ${rel.targetClassName} ${rel.fieldName};
 
     <#else>
-    @OneToOne(mappedBy = "${rel.mappedBy}")
+    @OneToOne(mappedBy = "${rel.mappedBy}", fetch = FetchType.LAZY)
     private ${rel.targetClassName} ${rel.fieldName};
 
     </#if>
     <#elseif rel.type == "MANY_TO_MANY">
-    @ManyToMany(fetch = FetchType.EAGER) // Eager fetch for roles implies robust loading
+    @ManyToMany
     @JoinTable(
         name = "${rel.joinTable}",
         joinColumns = @JoinColumn(name = "${rel.sourceColumn}"),
         inverseJoinColumns = @JoinColumn(name = "${rel.targetColumn}")
     )
-    private List<${rel.targetClassName}> ${rel.fieldName} = new ArrayList<>();
+    @BatchSize(size = ${batchSize})
+    private Set<${rel.targetClassName}> ${rel.fieldName} = new HashSet<>();
 
     </#if>
 </#list>
-</#if>
 
-<#list table.columns as column>
-    <#if !column.foreignKey>
+<#list tableModel.columns as column>
     public ${column.javaType} get${column.fieldName?cap_first}() {
         return ${column.fieldName};
     }
@@ -99,21 +128,19 @@ public class ${table.className} <#if isUserDetails?? && isUserDetails>implements
         this.${column.fieldName} = ${column.fieldName};
     }
 
-    </#if>
 </#list>
 
-<#if hasRelationships>
-<#list table.relationships as rel>
-    <#if rel.type == "ONE_TO_MANY" || rel.type == "MANY_TO_MANY">
-    public List<${rel.targetClassName}> get${rel.fieldName?cap_first}() {
+<#list tableModel.collectionRelationships as rel>
+    public Set<${rel.targetClassName}> get${rel.fieldName?cap_first}() {
         return ${rel.fieldName};
     }
 
-    public void set${rel.fieldName?cap_first}(List<${rel.targetClassName}> ${rel.fieldName}) {
+    public void set${rel.fieldName?cap_first}(Set<${rel.targetClassName}> ${rel.fieldName}) {
         this.${rel.fieldName} = ${rel.fieldName};
     }
 
-    <#else>
+</#list>
+<#list tableModel.singleRelationships as rel>
     public ${rel.targetClassName} get${rel.fieldName?cap_first}() {
         return ${rel.fieldName};
     }
@@ -122,9 +149,7 @@ public class ${table.className} <#if isUserDetails?? && isUserDetails>implements
         this.${rel.fieldName} = ${rel.fieldName};
     }
 
-    </#if>
 </#list>
-</#if>
 
 <#if isUserDetails?? && isUserDetails>
     @Override
@@ -140,23 +165,8 @@ public class ${table.className} <#if isUserDetails?? && isUserDetails>implements
         return List.of(new SimpleGrantedAuthority("ROLE_USER"));
         </#if>
         <#elseif rbacMode?? && rbacMode == "DYNAMIC">
-        // Dynamic RBAC Mode: Use Role Entity with ManyToMany relationship
-        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
-        for (${roleEntity} role : this.roles) {
-            String roleName = role.getName().toUpperCase();
-            if (!roleName.startsWith("ROLE_")) {
-                roleName = "ROLE_" + roleName;
-            }
-            authorities.add(new SimpleGrantedAuthority(roleName));
-            
-            // Add permissions if role has them
-            if (role.getPermissions() != null) {
-                for (String permission : role.getPermissions()) {
-                    authorities.add(new SimpleGrantedAuthority(permission));
-                }
-            }
-        }
-        return authorities;
+        // Dynamic RBAC Mode: one snapshot lookup per role instead of walking its permissions
+        return PermissionResolver.resolve(this.roles);
         <#elseif roleStrategy == "ENTITY">
         // Legacy Entity Strategy (for backward compatibility)
         List<SimpleGrantedAuthority> authorities = new ArrayList<>();
@@ -0,0 +1,144 @@
+package ${packageName}.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes exported rows to a response body as NDJSON (one JSON object per line) or CSV.
+ *
+ * Rows are flushed to the client every {@value #FLUSH_EVERY} rows, so the response is
+ * streamed as it is read and nothing but the current row is held in memory.
+ */
+public final class ExportWriter implements AutoCloseable {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final Writer writer;
+    private final String[] columns;
+    private final boolean csv;
+    private int pending;
+
+    private ExportWriter(OutputStream out, String[] columns, boolean csv) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        this.columns = columns;
+        this.csv = csv;
+    }
+
+    public static ExportWriter ndjson(OutputStream out, String... columns) {
+        return new ExportWriter(out, columns, false);
+    }
+
+    public static ExportWriter csv(OutputStream out, String... columns) {
+        ExportWriter export = new ExportWriter(out, columns, true);
+        export.writeCsvLine(columns);
+        return export;
+    }
+
+    /**
+     * Writes one row; values follow the column order given at creation.
+     *
+     * @throws UncheckedIOException If the client went away
+     */
+    public void write(Object... values) {
+        if (csv) {
+            writeCsvLine(values);
+        } else {
+            writeJsonLine(values);
+        }
+        if (++pending == FLUSH_EVERY) {
+            flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private void writeJsonLine(Object[] values) {
+        try {
+            writer.write('{');
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeJsonString(columns[i]);
+                writer.write(':');
+                Object value = values[i];
+                if (value == null) {
+                    writer.write("null");
+                } else if (value instanceof BigDecimal decimal) {
+                    writer.write(decimal.toPlainString());
+                } else if (value instanceof Number || value instanceof Boolean) {
+                    writer.write(value.toString());
+                } else {
+                    writeJsonString(value.toString());
+                }
+            }
+            writer.write("}\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeJsonString(String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    private void writeCsvLine(Object[] values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = values[i];
+                if (value != null) {
+                    String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+                    if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                        writer.write('"');
+                        writer.write(text.replace("\"", "\"\""));
+                        writer.write('"');
+                    } else {
+                        writer.write(text);
+                    }
+                }
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush() {
+        try {
+            writer.flush();
+            pending = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package ${packageName}.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads import rows one at a time from an NDJSON or CSV request body.
+ *
+ * Only the current row is held in memory. A row that cannot be parsed is returned
+ * with an error instead of ending the import, so the caller can report it and go on.
+ */
+public abstract class ImportReader implements Iterator<ImportRow>, Closeable {
+
+    private static final ObjectMapper JSON = new ObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    protected final BufferedReader reader;
+    protected long lineNumber;
+    private ImportRow next;
+
+    private ImportReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    /** One JSON object per line; blank lines are skipped */
+    public static ImportReader ndjson(InputStream in) {
+        return new ImportReader(in) {
+            @Override
+            protected ImportRow read() throws IOException {
+                String line;
+                do {
+                    line = reader.readLine();
+                    lineNumber++;
+                    if (line == null) {
+                        return null;
+                    }
+                } while (line.isBlank());
+                try {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> values = JSON.readValue(line, Map.class);
+                    if (values == null) {
+                        return ImportRow.malformed(lineNumber, "not a JSON object");
+                    }
+                    return ImportRow.of(lineNumber, values);
+                } catch (IOException e) {
+                    return ImportRow.malformed(lineNumber, "not a JSON object");
+                }
+            }
+        };
+    }
+
+    /** RFC 4180 CSV whose first record names the fields; empty cells are nulls */
+    public static ImportReader csv(InputStream in) {
+        return new ImportReader(in) {
+            private List<String> header;
+
+            @Override
+            protected ImportRow read() throws IOException {
+                if (header == null) {
+                    header = readRecord();
+                    if (header == null) {
+                        return null;
+                    }
+                }
+                long start = lineNumber + 1;
+                List<String> cells = readRecord();
+                while (cells != null && cells.size() == 1 && cells.get(0) == null) {
+                    start = lineNumber + 1;
+                    cells = readRecord();
+                }
+                if (cells == null) {
+                    return null;
+                }
+                if (cells.size() != header.size()) {
+                    return ImportRow.malformed(start, "expected " + header.size() + " cells, found " + cells.size());
+                }
+                Map<String, Object> values = new HashMap<>();
+                for (int i = 0; i < cells.size(); i++) {
+                    values.put(header.get(i).trim(), cells.get(i));
+                }
+                return ImportRow.of(start, values);
+            }
+
+            private List<String> readRecord() throws IOException {
+                String line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+                List<String> cells = new ArrayList<>();
+                StringBuilder cell = new StringBuilder();
+                boolean quoted = false;
+                boolean wasQuoted = false;
+                int i = 0;
+                while (true) {
+                    if (i == line.length()) {
+                        if (!quoted) {
+                            break;
+                        }
+                        // A quoted cell spans lines
+                        line = reader.readLine();
+                        if (line == null) {
+                            break;
+                        }
+                        lineNumber++;
+                        cell.append('\n');
+                        i = 0;
+                        continue;
+                    }
+                    char c = line.charAt(i++);
+                    if (quoted) {
+                        if (c == '"' && i < line.length() && line.charAt(i) == '"') {
+                            cell.append('"');
+                            i++;
+                        } else if (c == '"') {
+                            quoted = false;
+                        } else {
+                            cell.append(c);
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                        wasQuoted = true;
+                    } else if (c == ',') {
+                        cells.add(cell.length() == 0 && !wasQuoted ? null : cell.toString());
+                        cell.setLength(0);
+                        wasQuoted = false;
+                    } else {
+                        cell.append(c);
+                    }
+                }
+                cells.add(cell.length() == 0 && !wasQuoted ? null : cell.toString());
+                return cells;
+            }
+        };
+    }
+
+    /**
+     * Reads the next row.
+     *
+     * @return The row, or null at the end of the input
+     */
+    protected abstract ImportRow read() throws IOException;
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = read();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
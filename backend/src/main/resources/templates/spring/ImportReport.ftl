@@ -0,0 +1,50 @@
+package ${packageName}.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of an import: how many rows were stored or rejected, and why each rejected row failed.
+ *
+ * Only the first {@value #MAX_ERRORS} errors are listed, so a bad file cannot blow up the response.
+ */
+public class ImportReport {
+
+    private static final int MAX_ERRORS = 1000;
+
+    private long imported;
+    private long rejected;
+    private final List<RowError> errors = new ArrayList<>();
+
+    public record RowError(long line, String message) {
+    }
+
+    public void imported(int count) {
+        imported += count;
+    }
+
+    public void rejected(long line, String message) {
+        rejected++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /** @return Whether more rows were rejected than are listed */
+    public boolean isErrorsTruncated() {
+        return rejected > errors.size();
+    }
+}
@@ -0,0 +1,87 @@
+package ${packageName}.util;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * One row of an import, with typed and validated access to its fields.
+ */
+public final class ImportRow {
+
+    private final long line;
+    private final Map<String, Object> values;
+    private final String error;
+
+    private ImportRow(long line, Map<String, Object> values, String error) {
+        this.line = line;
+        this.values = values;
+        this.error = error;
+    }
+
+    static ImportRow of(long line, Map<String, Object> values) {
+        return new ImportRow(line, values, null);
+    }
+
+    static ImportRow malformed(long line, String error) {
+        return new ImportRow(line, Map.of(), error);
+    }
+
+    /** @return Line of the input where the row starts */
+    public long line() {
+        return line;
+    }
+
+    /** @return Why the row could not be parsed, or null if it was */
+    public String error() {
+        return error;
+    }
+
+    /**
+     * Text value of a field.
+     *
+     * @throws InvalidRowException If the field is required and missing or empty
+     */
+    public String text(String field, boolean required) {
+        return get(field, required, Function.identity());
+    }
+
+    /**
+     * Value of a field converted by the parser.
+     *
+     * @throws InvalidRowException If the field is required and missing, or the parser rejects it
+     */
+    public <T> T get(String field, boolean required, Function<String, T> parser) {
+        Object raw = values.get(field);
+        String text = raw == null ? null : raw.toString();
+        if (text == null || text.isEmpty()) {
+            if (required) {
+                throw new InvalidRowException(field + ": is required");
+            }
+            return null;
+        }
+        try {
+            return parser.apply(text);
+        } catch (RuntimeException e) {
+            String shown = text.length() > 40 ? text.substring(0, 40) + "..." : text;
+            throw new InvalidRowException(field + ": invalid value '" + shown + "'");
+        }
+    }
+
+    /** Strict boolean parser: true/false or 1/0 */
+    public static Boolean parseBoolean(String text) {
+        return switch (text.trim().toLowerCase()) {
+            case "true", "1" -> Boolean.TRUE;
+            case "false", "0" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException(text);
+        };
+    }
+
+    /**
+     * A field is missing or does not match its column type.
+     */
+    public static class InvalidRowException extends RuntimeException {
+        public InvalidRowException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package ${packageName}.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JSON serialization tuning.
+ * Spring Boot registers every Jackson {@link Module} bean on the application's ObjectMapper.
+ */
+@Configuration
+public class JacksonConfig {
+
+    // Blackbird replaces reflective getter/setter/constructor calls with generated lambdas
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,99 @@
+package ${packageName}.mapper;
+
+import ${packageName}.dto.${table.className}Dto;
+import ${packageName}.entity.${table.className};
+<#assign referenced = []>
+<#list tableModel.referenceIds as ref>
+<#if !referenced?seq_contains(ref.relationship.targetClassName) && ref.relationship.targetClassName != table.className>
+<#assign referenced = referenced + [ref.relationship.targetClassName]>
+import ${packageName}.entity.${ref.relationship.targetClassName};
+</#if>
+</#list>
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Static mapper between {@link ${table.className}} and {@link ${table.className}Dto}.
+ * Plain getter/setter calls: no reflection and no mapping framework at runtime.
+ */
+public final class ${table.className}Mapper {
+
+    private ${table.className}Mapper() {
+    }
+
+    public static ${table.className}Dto toDto(${table.className} entity) {
+        if (entity == null) {
+            return null;
+        }
+<#list tableModel.referenceIds as ref>
+        ${ref.relationship.targetClassName} ${ref.relationship.fieldName} = entity.get${ref.relationship.fieldName?cap_first}();
+</#list>
+        return new ${table.className}Dto(
+<#list tableModel.dtoColumns as column>
+                entity.get${column.fieldName?cap_first}()<#sep>,</#sep><#if !column?has_next && tableModel.referenceIds?has_content>,</#if>
+</#list>
+<#list tableModel.referenceIds as ref>
+                ${ref.relationship.fieldName} != null ? ${ref.relationship.fieldName}.get${ref.targetField?cap_first}() : null<#sep>,</#sep>
+</#list>
+        );
+    }
+
+    public static List<${table.className}Dto> toDtoList(Collection<${table.className}> entities) {
+        if (entities == null) {
+            return new ArrayList<>(0);
+        }
+        // Pre-sized: no intermediate array growth for large pages
+        List<${table.className}Dto> dtos = new ArrayList<>(entities.size());
+        for (${table.className} entity : entities) {
+            dtos.add(toDto(entity));
+        }
+        return dtos;
+    }
+
+    /**
+     * Builds a new entity from the DTO. The primary key is not copied, so a client
+     * cannot overwrite an existing row through a create.
+     */
+    public static ${table.className} toEntity(${table.className}Dto dto) {
+        if (dto == null) {
+            return null;
+        }
+        ${table.className} entity = new ${table.className}();
+        updateEntity(dto, entity);
+        return entity;
+    }
+
+    /**
+     * Copies the DTO onto an existing entity in place. The primary key<#if tableModel.versionColumn??> and the version are<#else> is</#if> left untouched.
+<#if tableModel.referenceIds?has_content>
+     * Parents are set as instances carrying only their id; the service swaps them for
+     * references when saving.
+</#if>
+     */
+    public static void updateEntity(${table.className}Dto dto, ${table.className} entity) {
+        if (dto == null || entity == null) {
+            return;
+        }
+<#list tableModel.dtoColumns as column>
+<#if !column.primaryKey && !(tableModel.versionColumn?? && column.fieldName == tableModel.versionColumn.fieldName)>
+        entity.set${column.fieldName?cap_first}(dto.${column.fieldName}());
+</#if>
+</#list>
+<#list tableModel.referenceIds as ref>
+<#assign target = ref.relationship.targetClassName>
+<#assign field = ref.relationship.fieldName>
+<#assign current = "current" + field?cap_first>
+        // Only replace the ${field} reference when its id changed
+        ${target} ${current} = entity.get${field?cap_first}();
+        if (dto.${ref.fieldName}() == null) {
+            entity.set${field?cap_first}(null);
+        } else if (${current} == null || !dto.${ref.fieldName}().equals(${current}.get${ref.targetField?cap_first}())) {
+            ${target} ${field} = new ${target}();
+            ${field}.set${ref.targetField?cap_first}(dto.${ref.fieldName}());
+            entity.set${field?cap_first}(${field});
+        }
+</#list>
+    }
+}
@@ -0,0 +1,110 @@
+<#-- Java expression of a sample value for row i, or "" when the type has no sample -->
+<#function sample javaType>
+    <#switch javaType>
+        <#case "String"><#return '"value-" + i'>
+        <#case "Long"><#return "(long) i">
+        <#case "Integer"><#return "i">
+        <#case "Short"><#return "(short) i">
+        <#case "Byte"><#return "(byte) i">
+        <#case "Double"><#return "i * 1.5">
+        <#case "Float"><#return "i * 1.5f">
+        <#case "BigDecimal"><#return "BigDecimal.valueOf(i, 2)">
+        <#case "Boolean"><#return "i % 2 == 0">
+        <#case "LocalDate"><#return "LocalDate.of(2024, 1, 1).plusDays(i)">
+        <#case "LocalDateTime"><#return "LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i)">
+        <#case "LocalTime"><#return "LocalTime.ofSecondOfDay(i % 86400)">
+        <#case "UUID"><#return "new UUID(0, i)">
+        <#case "byte[]"><#return "new byte[16]">
+        <#default><#return "">
+    </#switch>
+</#function>
+package ${packageName}.mapper;
+
+import ${packageName}.dto.${table.className}Dto;
+import ${packageName}.entity.${table.className};
+<#assign referenced = []>
+<#list tableModel.referenceIds as ref>
+<#if !referenced?seq_contains(ref.relationship.targetClassName) && ref.relationship.targetClassName != table.className>
+<#assign referenced = referenced + [ref.relationship.targetClassName]>
+import ${packageName}.entity.${ref.relationship.targetClassName};
+</#if>
+</#list>
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+<#list tableModel.valueImports as valueImport>
+import ${valueImport};
+</#list>
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ${table.className}Mapper} with the same getter calls written by hand
+ * into an unsized list, on rows whose columns and parent references are all set.
+ * Run with: main() from the IDE, or any JMH runner on the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ${table.className}MapperBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private List<${table.className}> entities;
+
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ${table.className} entity = new ${table.className}();
+<#list tableModel.dtoColumns as column>
+<#if sample(column.javaType) != "">
+            entity.set${column.fieldName?cap_first}(${sample(column.javaType)});
+</#if>
+</#list>
+<#list tableModel.referenceIds as ref>
+<#if sample(ref.javaType) != "">
+            ${ref.relationship.targetClassName} ${ref.relationship.fieldName} = new ${ref.relationship.targetClassName}();
+            ${ref.relationship.fieldName}.set${ref.targetField?cap_first}(${sample(ref.javaType)});
+            entity.set${ref.relationship.fieldName?cap_first}(${ref.relationship.fieldName});
+</#if>
+</#list>
+            entities.add(entity);
+        }
+    }
+
+    @Benchmark
+    public List<${table.className}Dto> generatedMapper() {
+        return ${table.className}Mapper.toDtoList(entities);
+    }
+
+    @Benchmark
+    public List<${table.className}Dto> handWrittenCopy() {
+        // Baseline: getter calls written inline, collected into a list that grows as it fills
+        List<${table.className}Dto> dtos = new ArrayList<>();
+        for (${table.className} entity : entities) {
+            dtos.add(new ${table.className}Dto(
+<#list tableModel.dtoColumns as column>
+                    entity.get${column.fieldName?cap_first}()<#sep>,</#sep><#if !column?has_next && tableModel.referenceIds?has_content>,</#if>
+</#list>
+<#list tableModel.referenceIds as ref>
+                    entity.get${ref.relationship.fieldName?cap_first}() != null ? entity.get${ref.relationship.fieldName?cap_first}().get${ref.targetField?cap_first}() : null<#sep>,</#sep>
+</#list>
+            ));
+        }
+        return dtos;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(${table.className}MapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
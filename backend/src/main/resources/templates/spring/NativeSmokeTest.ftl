@@ -0,0 +1,60 @@
+package ${packageName};
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Smoke test of the running application.
+ *
+ * Run it inside the native image with {@code ./mvnw -PnativeTest test} to check that the
+ * binary starts and that the AOT metadata covers the CRUD endpoints. It needs the configured
+ * database, so a plain {@code ./mvnw test} skips the "native" tag.
+ */
+@Tag("native")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class NativeSmokeTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+<#list entities as entity>
+
+    @Test
+    @DisplayName("${entity.path} is served")
+    void serves${entity.className}() {
+<#if securityEnabled>
+        // Secured endpoints: an anonymous request must be rejected, not fail
+        ResponseEntity<String> list = restTemplate.getForEntity("${entity.path}", String.class);
+        assertThat(list.getStatusCode().value()).isIn(401, 403);
+<#else>
+        ResponseEntity<String> list = restTemplate.getForEntity("${entity.path}", String.class);
+        assertThat(list.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<String> missing = restTemplate.getForEntity("${entity.path}/999999", String.class);
+        assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+<#if entity.creatable>
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> created = restTemplate.postForObject("${entity.path}", Map.of(), Map.class);
+        assertThat(created).containsKey("${entity.pkField}");
+        Object id = created.get("${entity.pkField}");
+
+        assertThat(restTemplate.getForEntity("${entity.path}/" + id, String.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        restTemplate.delete("${entity.path}/" + id);
+        assertThat(restTemplate.getForEntity("${entity.path}/" + id, String.class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+</#if>
+</#if>
+    }
+</#list>
+}
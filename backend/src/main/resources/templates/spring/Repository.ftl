@@ -1,9 +1,176 @@
 package ${packageName}.repository;
 
 import ${packageName}.entity.${table.className};
+<#assign keyset = springConfig.keysetPagination && tableModel.pkColumn??>
+<#assign hasReferences = tableModel.singleRelationships?has_content>
+<#assign principalFinder = (isUserDetails?? && isUserDetails && usernameField??)>
+<#assign dtoType = table.className + "Dto">
+<#-- Indexed finders: unique columns (unique index) and reference ids (foreign key index) -->
+<#assign uniqueFinders = tableModel.uniqueColumns?filter(column -> !(principalFinder && column.fieldName == usernameField))>
+<#assign referenceFinders = tableModel.referenceIds>
+<#assign filtering = springConfig.filterEndpoints && (tableModel.uniqueColumns?has_content || tableModel.referenceIds?has_content)>
+<#assign needsList = keyset || (!springConfig.paginationEnabled && (hasReferences || includeDto || referenceFinders?has_content))>
+<#assign streaming = springConfig.streamingExport>
+<#assign needsOptional = (tableModel.collectionRelationships?has_content && tableModel.pkColumn??) || principalFinder || (includeDto && tableModel.pkColumn??) || uniqueFinders?has_content>
+<#if includeDto>
+import ${packageName}.dto.${dtoType};
+</#if>
+<#if springConfig.paginationEnabled || keyset>
+import org.springframework.data.domain.Pageable;
+</#if>
+<#if springConfig.paginationEnabled>
+import org.springframework.data.domain.Slice;
+</#if>
+<#if filtering && hasReferences && springConfig.paginationEnabled>
+import org.springframework.data.domain.Page;
+</#if>
+<#if filtering>
+import org.springframework.data.jpa.domain.Specification;
+</#if>
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+<#if filtering>
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+</#if>
+<#if streaming>
+import org.springframework.data.jpa.repository.QueryHints;
+import org.hibernate.jpa.HibernateHints;
+import jakarta.persistence.QueryHint;
+</#if>
+<#if includeDto>
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+</#if>
 import org.springframework.stereotype.Repository;
+<#if needsList>
+import java.util.List;
+</#if>
+<#if needsOptional>
+import java.util.Optional;
+</#if>
+<#if streaming>
+import java.util.stream.Stream;
+</#if>
+<#if uniqueFinders?has_content || referenceFinders?has_content>
+<#list tableModel.valueImports as valueImport>
+import ${valueImport};
+</#list>
+</#if>
 
 @Repository
-public interface ${table.className}Repository extends JpaRepository<${table.className}, <#list table.columns as col><#if col.primaryKey>${col.javaType}</#if></#list>> {
+public interface ${table.className}Repository extends JpaRepository<${table.className}, ${tableModel.pkType}><#if filtering>,
+        JpaSpecificationExecutor<${table.className}></#if> {
+<#if springConfig.paginationEnabled>
+
+    // Slice instead of Page: no count query per request
+<#if hasReferences>
+    @EntityGraph("${tableModel.referencesGraph}")
+</#if>
+    Slice<${table.className}> findAllBy(Pageable pageable);
+<#elseif hasReferences>
+
+    // Load the referenced parents in the same query instead of one query per row
+    @Override
+    @EntityGraph("${tableModel.referencesGraph}")
+    List<${table.className}> findAll();
+</#if>
+<#if keyset>
+<#assign pkName = tableModel.pkField?cap_first>
+
+    // Keyset pagination: seek past the last seen key instead of using OFFSET
+<#if hasReferences>
+    @EntityGraph("${tableModel.referencesGraph}")
+</#if>
+    List<${table.className}> findAllByOrderBy${pkName}Asc(Pageable pageable);
+
+<#if hasReferences>
+    @EntityGraph("${tableModel.referencesGraph}")
+</#if>
+    List<${table.className}> findBy${pkName}GreaterThanOrderBy${pkName}Asc(${tableModel.pkType} after, Pageable pageable);
+</#if>
+<#if tableModel.pkColumn??>
+<#list tableModel.collectionRelationships as rel>
+
+    // Parent with its ${rel.fieldName} in a single query
+    @EntityGraph("${tableModel.collectionGraph(rel)}")
+    Optional<${table.className}> findWith${rel.fieldName?cap_first}By${tableModel.pkField?cap_first}(${tableModel.pkType} ${tableModel.pkField});
+</#list>
+</#if>
+<#if includeDto>
+<#assign projection = "select new ${packageName}.dto.${dtoType}(${tableModel.projectionSelect}) from ${table.className} e${tableModel.projectionJoins}">
+
+    // Constructor projections: reads select only the DTO columns, not whole entities
+    @Query("${projection}")
+<#if springConfig.paginationEnabled>
+    Slice<${dtoType}> findAllDtos(Pageable pageable);
+<#else>
+    List<${dtoType}> findAllDtos();
+</#if>
+<#if tableModel.pkColumn??>
+
+    @Query("${projection} where e.${tableModel.pkField} = :id")
+    Optional<${dtoType}> findDtoById(@Param("id") ${tableModel.pkType} id);
+</#if>
+<#if keyset>
+
+    @Query("${projection} order by e.${tableModel.pkField}")
+    List<${dtoType}> findFirstDtos(Pageable pageable);
+
+    @Query("${projection} where e.${tableModel.pkField} > :after order by e.${tableModel.pkField}")
+    List<${dtoType}> findDtosAfter(@Param("after") ${tableModel.pkType} after, Pageable pageable);
+</#if>
+<#if streaming>
+
+    // Export: a forward-only cursor of ${springConfig.streamFetchSize?c} rows per round trip; close the stream
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "${springConfig.streamFetchSize?c}"))
+    @Query("${projection}")
+    Stream<${dtoType}> streamAllDtos();
+</#if>
+</#if>
+<#if streaming && !includeDto>
+
+    // Export: a forward-only cursor of ${springConfig.streamFetchSize?c} rows per round trip; read-only
+    // entities skip dirty-checking snapshots. Close the stream.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "${springConfig.streamFetchSize?c}"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<${table.className}> streamAllBy();
+</#if>
+<#list uniqueFinders as column>
+
+    // Uses the unique index on ${column.name}
+    Optional<${table.className}> findBy${column.fieldName?cap_first}(${column.javaType} ${column.fieldName});
+</#list>
+<#list referenceFinders as ref>
+
+    // Rows referencing one ${ref.relationship.targetClassName}; uses the index on ${ref.relationship.sourceColumn}
+<#if hasReferences>
+    @EntityGraph("${tableModel.referencesGraph}")
+</#if>
+<#if springConfig.paginationEnabled>
+    Slice<${table.className}> findBy${ref.relationship.fieldName?cap_first}_${ref.targetField?cap_first}(${ref.javaType} ${ref.fieldName}, Pageable pageable);
+<#else>
+    List<${table.className}> findBy${ref.relationship.fieldName?cap_first}_${ref.targetField?cap_first}(${ref.javaType} ${ref.fieldName});
+</#if>
+</#list>
+<#if filtering && hasReferences>
+
+    // Filters load the referenced parents in the same query
+    @Override
+    @EntityGraph("${tableModel.referencesGraph}")
+<#if springConfig.paginationEnabled>
+    Page<${table.className}> findAll(Specification<${table.className}> spec, Pageable pageable);
+<#else>
+    List<${table.className}> findAll(Specification<${table.className}> spec);
+</#if>
+</#if>
+<#if principalFinder>
+
+    // Used by CustomUserDetailsService; roles are lazy, so load them with the user
+<#if tableModel.hasCollection("roles")>
+    @EntityGraph("${table.className}.withRoles")
+</#if>
+    Optional<${table.className}> findBy${usernameField?cap_first}(String ${usernameField});
+</#if>
 }
@@ -1,12 +1,27 @@
 package ${packageName}.repository;
 
 import ${packageName}.entity.${table.className};
+<#-- Saving by parent id goes through the service, which turns id-only parents into references -->
+<#assign savesByParentId = includeService && tableModel.pkColumn?? && tableModel.referenceIds?has_content>
+<#if savesByParentId>
+<#assign referenced = []>
+<#list tableModel.referenceIds as ref>
+<#if !referenced?seq_contains(ref.relationship.targetClassName) && ref.relationship.targetClassName != table.className>
+<#assign referenced = referenced + [ref.relationship.targetClassName]>
+import ${packageName}.entity.${ref.relationship.targetClassName};
+</#if>
+</#list>
+import ${packageName}.service.${table.className}Service;
+</#if>
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+<#if savesByParentId>
+import org.springframework.context.annotation.Import;
+</#if>
 
 import java.util.List;
 import java.util.Optional;
@@ -15,8 +30,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * Integration tests for {@link ${table.className}Repository}
+<#if springConfig.databaseMigrations>
+ *
+ * The schema comes from the entities rather than the Flyway migrations, so the
+ * rows below do not need every NOT NULL column or parent row filled in.
+</#if>
  */
+<#if springConfig.databaseMigrations>
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+<#else>
 @DataJpaTest
+</#if>
+<#if savesByParentId>
+@Import(${table.className}Service.class)
+</#if>
 class ${table.className}RepositoryTest {
 
     @Autowired
@@ -24,13 +54,18 @@ class ${table.className}RepositoryTest {
 
     @Autowired
     private ${table.className}Repository repository;
+<#if savesByParentId>
+
+    @Autowired
+    private ${table.className}Service service;
+</#if>
 
     private ${table.className} ${table.className?uncap_first};
 
     @BeforeEach
     void setUp() {
         ${table.className?uncap_first} = new ${table.className}();
-        <#list table.columns as column>
+        <#list tableModel.columns as column>
         <#if !column.primaryKey && !column.autoIncrement>
         // ${table.className?uncap_first}.set${column.fieldName?cap_first}(/* TODO: set test value */);
         </#if>
@@ -42,7 +77,7 @@ class ${table.className}RepositoryTest {
     @DisplayName("Should save ${table.className} successfully")
     void shouldSave${table.className}() {
         ${table.className} new${table.className} = new ${table.className}();
-        <#list table.columns as column>
+        <#list tableModel.columns as column>
         <#if !column.primaryKey && !column.autoIncrement>
         // new${table.className}.set${column.fieldName?cap_first}(/* TODO: set test value */);
         </#if>
@@ -51,28 +86,48 @@ class ${table.className}RepositoryTest {
         ${table.className} saved = repository.save(new${table.className});
 
         assertThat(saved).isNotNull();
-        <#list table.columns as column>
-        <#if column.primaryKey>
-        assertThat(saved.get${column.fieldName?cap_first}()).isNotNull();
+        <#if tableModel.pkColumn??>
+        assertThat(saved.get${tableModel.pkField?cap_first}()).isNotNull();
         </#if>
-        </#list>
     }
 
+<#if savesByParentId>
+    @Test
+    @DisplayName("Should save ${table.className} by parent id")
+    void shouldSave${table.className}ByParentId() {
+        ${table.className} child = new ${table.className}();
+<#list tableModel.referenceIds as ref>
+<#assign target = ref.relationship.targetClassName>
+<#assign field = ref.relationship.fieldName>
+        ${target} ${field} = entityManager.persistAndFlush(new ${target}());
+        // Only the id is set, as the mapper does for a DTO
+        ${target} ${field}ById = new ${target}();
+        ${field}ById.set${ref.targetField?cap_first}(${field}.get${ref.targetField?cap_first}());
+        child.set${field?cap_first}(${field}ById);
+</#list>
+
+        ${table.className} saved = service.save(child);
+        entityManager.flush();
+        entityManager.clear();
+
+        ${table.className} found = repository.findById(saved.get${tableModel.pkField?cap_first}()).orElseThrow();
+<#list tableModel.referenceIds as ref>
+        assertThat(found.get${ref.relationship.fieldName?cap_first}().get${ref.targetField?cap_first}()).isEqualTo(${ref.relationship.fieldName}.get${ref.targetField?cap_first}());
+</#list>
+    }
+
+</#if>
     @Test
     @DisplayName("Should find ${table.className} by ID")
     void shouldFind${table.className}ById() {
-        <#list table.columns as column>
-        <#if column.primaryKey>
-        Optional<${table.className}> found = repository.findById(${table.className?uncap_first}.get${column.fieldName?cap_first}());
+        <#if tableModel.pkColumn??>
+        Optional<${table.className}> found = repository.findById(${table.className?uncap_first}.get${tableModel.pkField?cap_first}());
         </#if>
-        </#list>
 
         assertThat(found).isPresent();
-        <#list table.columns as column>
-        <#if column.primaryKey>
-        assertThat(found.get().get${column.fieldName?cap_first}()).isEqualTo(${table.className?uncap_first}.get${column.fieldName?cap_first}());
+        <#if tableModel.pkColumn??>
+        assertThat(found.get().get${tableModel.pkField?cap_first}()).isEqualTo(${table.className?uncap_first}.get${tableModel.pkField?cap_first}());
         </#if>
-        </#list>
     }
 
     @Test
@@ -94,25 +149,21 @@ class ${table.className}RepositoryTest {
         entityManager.flush();
         entityManager.clear();
 
-        <#list table.columns as column>
-        <#if column.primaryKey>
-        Optional<${table.className}> found = repository.findById(updated.get${column.fieldName?cap_first}());
+        <#if tableModel.pkColumn??>
+        Optional<${table.className}> found = repository.findById(updated.get${tableModel.pkField?cap_first}());
         assertThat(found).isPresent();
         </#if>
-        </#list>
     }
 
     @Test
     @DisplayName("Should delete ${table.className} successfully")
     void shouldDelete${table.className}() {
-        <#list table.columns as column>
-        <#if column.primaryKey>
-        repository.deleteById(${table.className?uncap_first}.get${column.fieldName?cap_first}());
+        <#if tableModel.pkColumn??>
+        repository.deleteById(${table.className?uncap_first}.get${tableModel.pkField?cap_first}());
         entityManager.flush();
 
-        Optional<${table.className}> deleted = repository.findById(${table.className?uncap_first}.get${column.fieldName?cap_first}());
+        Optional<${table.className}> deleted = repository.findById(${table.className?uncap_first}.get${tableModel.pkField?cap_first}());
         assertThat(deleted).isEmpty();
         </#if>
-        </#list>
     }
 }
@@ -1,5 +1,6 @@
 package ${packageName}.entity;
 
+import ${packageName}.security.RoleChangeListener;
 import jakarta.persistence.*;
 import java.util.Set;
 import java.util.HashSet;
@@ -7,9 +8,11 @@ import java.util.HashSet;
 /**
  * Role entity for Dynamic RBAC mode.
  * Stores roles and their associated permissions in the database.
+ * Changes are announced to the PermissionResolver through {@link RoleChangeListener}.
  */
 @Entity
 @Table(name = "roles")
+@EntityListeners(RoleChangeListener.class)
 public class Role {
 
     @Id
@@ -22,7 +25,12 @@ public class Role {
     @Column(length = 500)
     private String description;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    // Also bumped by permission changes, which then fire the update callback
+    @Version
+    private Long version;
+
+    // Lazy: authorities come from the PermissionResolver snapshot, which fetch-joins them once
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "role_permissions", joinColumns = @JoinColumn(name = "role_id"))
     @Column(name = "permission")
     private Set<String> permissions = new HashSet<>();
@@ -32,6 +32,10 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 // Allow Auth endpoints
                 .requestMatchers("/api/auth/**").permitAll()
+                <#if springConfig?? && springConfig.observability>
+                // Probes and the Prometheus scrape; keep the management port off public networks
+                .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                </#if>
                 <#if security.rules?? && (security.rules?size > 0)>
                 // Custom Rules
                 <#list security.rules as rule>
@@ -2,32 +2,581 @@ package ${packageName}.service;
 
 import ${packageName}.entity.${table.className};
 import ${packageName}.repository.${table.className}Repository;
+<#if includeDto>
+import ${packageName}.dto.${table.className}Dto;
+</#if>
 import org.springframework.stereotype.Service;
+<#assign streaming = springConfig.streamingExport>
+<#assign importing = springConfig.streamingImport>
+<#assign sparse = springConfig.sparseFieldsets>
+<#assign filtering = springConfig.filterEndpoints && (tableModel.uniqueColumns?has_content || tableModel.referenceIds?has_content)>
+<#-- Bulk writes and imports clear the persistence context; entity exports detach each exported row;
+     sparse fieldsets build their select list with the Criteria API -->
+<#-- Parents that arrive as bare ids (mapped DTOs, request bodies) are swapped for lazy references before saving -->
+<#assign resolvesReferences = tableModel.referenceIds?has_content>
+<#assign needsEntityManager = springConfig.bulkWrites || importing || sparse || (streaming && !includeDto) || resolvesReferences>
+<#-- With a read replica, read-only transactions are routed to the replica pool -->
+<#assign readOnly = springConfig.readReplica>
+<#if springConfig.bulkWrites || streaming || readOnly || resolvesReferences>
+import org.springframework.transaction.annotation.Transactional;
+</#if>
+<#if needsEntityManager>
+import jakarta.persistence.EntityManager;
+</#if>
+<#if springConfig.bulkWrites || importing || sparse || filtering>
+import java.util.ArrayList;
+</#if>
+<#if sparse>
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+<#if tableModel.referenceIds?has_content>
+import jakarta.persistence.criteria.JoinType;
+</#if>
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+<#if springConfig.paginationEnabled>
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+</#if>
+import java.util.LinkedHashMap;
+import java.util.Map;
+</#if>
+<#assign referenced = []>
+<#list tableModel.referenceIds as ref>
+<#if !referenced?seq_contains(ref.relationship.targetClassName) && ref.relationship.targetClassName != table.className>
+<#assign referenced = referenced + [ref.relationship.targetClassName]>
+import ${packageName}.entity.${ref.relationship.targetClassName};
+</#if>
+</#list>
+<#if importing>
+import ${basePackageName}.util.ImportReport;
+import ${basePackageName}.util.ImportRow;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.Iterator;
+<#list tableModel.valueImports as valueImport>
+import ${valueImport};
+</#list>
+</#if>
+<#-- Caches hold DTOs, so caching applies to the DTO reads only -->
+<#assign cached = springConfig.cacheEnabled && includeDto>
+<#if cached>
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+</#if>
+<#assign keyset = springConfig.keysetPagination && tableModel.pkColumn??>
+<#if springConfig.paginationEnabled>
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+</#if>
+<#if keyset>
+import org.springframework.data.domain.PageRequest;
+</#if>
+<#if filtering>
+<#if springConfig.paginationEnabled>
+import org.springframework.data.domain.Page;
+</#if>
+import org.springframework.data.jpa.domain.Specification;
+<#if !importing>
+<#list tableModel.valueImports as valueImport>
+import ${valueImport};
+</#list>
+</#if>
+</#if>
 import java.util.List;
 import java.util.Optional;
+<#if streaming>
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+</#if>
 
 @Service
 public class ${table.className}Service {
 
+<#if springConfig.bulkWrites || importing>
+    private static final int BATCH_SIZE = ${springConfig.jdbcBatchSize?c};
+
+</#if>
+<#if importing>
+    private static final int IMPORT_CHUNK_SIZE = ${springConfig.importChunkSize?c};
+
+</#if>
     private final ${table.className}Repository repository;
+<#if needsEntityManager>
+    private final EntityManager entityManager;
+</#if>
+<#if importing>
+    private final TransactionTemplate transactionTemplate;
+</#if>
 
-    public ${table.className}Service(${table.className}Repository repository) {
+    public ${table.className}Service(${table.className}Repository repository<#if needsEntityManager>, EntityManager entityManager</#if><#if importing>,
+                                     PlatformTransactionManager transactionManager</#if>) {
     this.repository = repository;
+<#if needsEntityManager>
+    this.entityManager = entityManager;
+</#if>
+<#if importing>
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+</#if>
     }
 
+<#if springConfig.paginationEnabled>
+<#if readOnly>
+    @Transactional(readOnly = true)
+</#if>
+    public Slice<${table.className}> findAll(Pageable pageable) {
+        return repository.findAllBy(pageable);
+    }
+<#else>
+<#if readOnly>
+    @Transactional(readOnly = true)
+</#if>
     public List<${table.className}> findAll() {
         return repository.findAll();
     }
+</#if>
+<#if streaming>
+
+    /**
+     * Hands every row to the consumer while reading them through a database cursor.
+<#if includeDto>
+     * Rows are DTO projections, never managed, so memory stays flat whatever the table size.
+<#else>
+     * Each entity is detached once consumed, so memory stays flat whatever the table size.
+</#if>
+     */
+    @Transactional(readOnly = true)
+<#if includeDto>
+    public void exportAll(Consumer<${table.className}Dto> consumer) {
+        try (Stream<${table.className}Dto> rows = repository.streamAllDtos()) {
+            rows.forEach(consumer);
+        }
+    }
+<#else>
+    public void exportAll(Consumer<${table.className}> consumer) {
+        try (Stream<${table.className}> rows = repository.streamAllBy()) {
+            rows.forEach(row -> {
+                consumer.accept(row);
+                entityManager.detach(row);
+            });
+        }
+    }
+</#if>
+</#if>
+<#if sparse>
+
+    /**
+     * Reads only the selected fields of each row, in the requested order.
+     * The select list is built from the fields, so unselected columns are never read.
+     */
+<#if springConfig.paginationEnabled>
+<#if readOnly>
+    @Transactional(readOnly = true)
+</#if>
+    public Slice<Map<String, Object>> findAllFields(List<String> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<${table.className}> root = query.from(${table.className}.class);
+        query.multiselect(selection(root, fields));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        // One extra row tells whether another slice follows
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Map<String, Object>> content = toMaps(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, fields);
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+<#else>
+<#if readOnly>
+    @Transactional(readOnly = true)
+</#if>
+    public List<Map<String, Object>> findAllFields(List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<${table.className}> root = query.from(${table.className}.class);
+        query.multiselect(selection(root, fields));
+        return toMaps(entityManager.createQuery(query).getResultList(), fields);
+    }
+</#if>
+<#if tableModel.pkColumn??>
+
+<#if readOnly>
+    @Transactional(readOnly = true)
+</#if>
+    public Optional<Map<String, Object>> findFieldsById(${tableModel.pkType} id, List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<${table.className}> root = query.from(${table.className}.class);
+        query.multiselect(selection(root, fields)).where(cb.equal(root.get("${tableModel.pkField}"), id));
+        return entityManager.createQuery(query).getResultStream().findFirst().map(row -> toMap(row, fields));
+    }
+</#if>
+
+    private static List<Selection<?>> selection(Root<${table.className}> root, List<String> fields) {
+        List<Selection<?>> selection = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selection.add(path(root, field).alias(field));
+        }
+        return selection;
+    }
 
-    public Optional<${table.className}> findById(<#list table.columns as col><#if col.primaryKey>${col.javaType}</#if></#list> id) {
+<#if tableModel.referenceIds?has_content>
+    // Reference ids go through a left join, so rows without a reference keep a null id
+    private static Path<?> path(Root<${table.className}> root, String field) {
+        return switch (field) {
+<#list tableModel.referenceIds as ref>
+            case "${ref.fieldName}" -> root.join("${ref.relationship.fieldName}", JoinType.LEFT).get("${ref.targetField}");
+</#list>
+            default -> root.get(field);
+        };
+    }
+<#else>
+    private static Path<?> path(Root<${table.className}> root, String field) {
+        return root.get(field);
+    }
+</#if>
+
+    private static List<Map<String, Object>> toMaps(List<Tuple> rows, List<String> fields) {
+        List<Map<String, Object>> maps = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            maps.add(toMap(row, fields));
+        }
+        return maps;
+    }
+
+    private static Map<String, Object> toMap(Tuple row, List<String> fields) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            map.put(fields.get(i), row.get(i));
+        }
+        return map;
+    }
+</#if>
+<#if filtering>
+<#assign filterParams = []>
+<#list tableModel.uniqueColumns as column>
+<#assign filterParams = filterParams + [column.javaType + " " + column.fieldName]>
+</#list>
+<#list tableModel.referenceIds as ref>
+<#assign filterParams = filterParams + [ref.javaType + " " + ref.fieldName]>
+</#list>
+
+    /**
+     * Rows matching every non-null filter. Only unique columns and reference ids can be
+     * filtered, so each condition is answered from an index.
+     */
+<#if readOnly>
+    @Transactional(readOnly = true)
+</#if>
+<#if springConfig.paginationEnabled>
+    public Page<${table.className}> filter(${filterParams?join(", ")}, Pageable pageable) {
+<#else>
+    public List<${table.className}> filter(${filterParams?join(", ")}) {
+</#if>
+        List<Specification<${table.className}>> conditions = new ArrayList<>();
+<#list tableModel.uniqueColumns as column>
+        if (${column.fieldName} != null) {
+            conditions.add((root, query, cb) -> cb.equal(root.get("${column.fieldName}"), ${column.fieldName}));
+        }
+</#list>
+<#list tableModel.referenceIds as ref>
+        if (${ref.fieldName} != null) {
+            // Compares the foreign key column; the referenced row is not joined
+            conditions.add((root, query, cb) -> cb.equal(root.get("${ref.relationship.fieldName}").get("${ref.targetField}"), ${ref.fieldName}));
+        }
+</#list>
+        return repository.findAll(Specification.allOf(conditions)<#if springConfig.paginationEnabled>, pageable</#if>);
+    }
+</#if>
+<#if keyset>
+<#assign pkName = tableModel.pkField?cap_first>
+
+<#if readOnly>
+    @Transactional(readOnly = true)
+</#if>
+    public List<${table.className}> findAfter(${tableModel.pkType} after, int size) {
+        PageRequest limit = PageRequest.of(0, size);
+        if (after == null) {
+            return repository.findAllByOrderBy${pkName}Asc(limit);
+        }
+        return repository.findBy${pkName}GreaterThanOrderBy${pkName}Asc(after, limit);
+    }
+</#if>
+
+<#if readOnly>
+    @Transactional(readOnly = true)
+</#if>
+    public Optional<${table.className}> findById(${tableModel.pkType} id) {
         return repository.findById(id);
     }
+<#if readOnly>
 
+    /**
+     * Loads a row that is about to be written from the primary database. A replica may
+     * lag behind and return an outdated version, or miss a row that was just created.
+     */
+    @Transactional
+    public Optional<${table.className}> findByIdForWrite(${tableModel.pkType} id) {
+        return repository.findById(id);
+    }
+</#if>
+
+<#if tableModel.pkColumn??>
+<#list tableModel.collectionRelationships as rel>
+<#if readOnly>
+    @Transactional(readOnly = true)
+</#if>
+    public Optional<${table.className}> findByIdWith${rel.fieldName?cap_first}(${tableModel.pkType} id) {
+        return repository.findWith${rel.fieldName?cap_first}By${tableModel.pkField?cap_first}(id);
+    }
+
+</#list>
+</#if>
+<#if includeDto>
+<#assign dtoType = table.className + "Dto">
+<#if springConfig.paginationEnabled>
+<#if readOnly>
+    @Transactional(readOnly = true)
+</#if>
+    public Slice<${dtoType}> findAllDtos(Pageable pageable) {
+        return repository.findAllDtos(pageable);
+    }
+<#else>
+<#if cached>
+    @Cacheable(cacheNames = "${tableModel.listCacheName}", key = "'all'")
+</#if>
+<#if readOnly && cached>
+    // Misses read the primary: a lagging replica would cache a row older than the write that evicted it
+    @Transactional
+<#elseif readOnly>
+    @Transactional(readOnly = true)
+</#if>
+    public List<${dtoType}> findAllDtos() {
+        return repository.findAllDtos();
+    }
+</#if>
+
+<#if tableModel.pkColumn??>
+<#if cached>
+    @Cacheable(cacheNames = "${tableModel.cacheName}", key = "#id")
+</#if>
+<#if readOnly && cached>
+    // Misses read the primary: a lagging replica would cache a row older than the write that evicted it
+    @Transactional
+<#elseif readOnly>
+    @Transactional(readOnly = true)
+</#if>
+    public Optional<${dtoType}> findDtoById(${tableModel.pkType} id) {
+        return repository.findDtoById(id);
+    }
+
+</#if>
+<#if keyset>
+<#if readOnly>
+    @Transactional(readOnly = true)
+</#if>
+    public List<${dtoType}> findDtosAfter(${tableModel.pkType} after, int size) {
+        PageRequest limit = PageRequest.of(0, size);
+        if (after == null) {
+            return repository.findFirstDtos(limit);
+        }
+        return repository.findDtosAfter(after, limit);
+    }
+
+</#if>
+</#if>
+<#if cached>
+    @Caching(evict = {
+<#if tableModel.pkColumn??>
+            @CacheEvict(cacheNames = "${tableModel.cacheName}", key = "#result.${tableModel.pkField}"),
+</#if>
+            @CacheEvict(cacheNames = "${tableModel.listCacheName}", allEntries = true)
+    })
+</#if>
+<#if resolvesReferences>
+    @Transactional
+    public ${table.className} save(${table.className} entity) {
+        resolveReferences(entity);
+        return repository.save(entity);
+    }
+
+    /**
+     * Replaces parents that only carry an id with lazy references, so saving neither
+     * merges them nor checks their version; the database checks that the rows exist.
+     */
+    private void resolveReferences(${table.className} entity) {
+<#list tableModel.referenceIds as ref>
+<#assign target = ref.relationship.targetClassName>
+<#assign field = ref.relationship.fieldName>
+        ${target} ${field} = entity.get${field?cap_first}();
+        if (${field} != null && ${field}.get${ref.targetField?cap_first}() != null && !entityManager.contains(${field})) {
+            entity.set${field?cap_first}(entityManager.getReference(${target}.class, ${field}.get${ref.targetField?cap_first}()));
+        }
+</#list>
+    }
+<#else>
     public ${table.className} save(${table.className} entity) {
         return repository.save(entity);
     }
+</#if>
+
+<#if springConfig.bulkWrites>
+    /**
+     * Inserts or updates all entities in one transaction, flushed in JDBC-sized batches.
+     * The persistence context is cleared after each batch so large loads use constant memory;
+     * the returned entities are detached.
+     */
+<#if cached>
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "${tableModel.cacheName}", allEntries = true),
+            @CacheEvict(cacheNames = "${tableModel.listCacheName}", allEntries = true)
+    })
+</#if>
+    @Transactional
+    public List<${table.className}> saveAll(List<${table.className}> entities) {
+        List<${table.className}> saved = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += BATCH_SIZE) {
+            List<${table.className}> batch = entities.subList(from, Math.min(from + BATCH_SIZE, entities.size()));
+<#if resolvesReferences>
+            // After a clear, references must come from the current persistence context
+            batch.forEach(this::resolveReferences);
+</#if>
+            saved.addAll(repository.saveAll(batch));
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return saved;
+    }
+
+</#if>
+<#if importing>
+<#function importParser javaType>
+    <#switch javaType>
+        <#case "Long"><#return "Long::valueOf">
+        <#case "Integer"><#return "Integer::valueOf">
+        <#case "Short"><#return "Short::valueOf">
+        <#case "Byte"><#return "Byte::valueOf">
+        <#case "Double"><#return "Double::valueOf">
+        <#case "Float"><#return "Float::valueOf">
+        <#case "BigDecimal"><#return "BigDecimal::new">
+        <#case "Boolean"><#return "ImportRow::parseBoolean">
+        <#case "LocalDate"><#return "LocalDate::parse">
+        <#case "LocalDateTime"><#return "LocalDateTime::parse">
+        <#case "LocalTime"><#return "LocalTime::parse">
+        <#case "UUID"><#return "UUID::fromString">
+        <#default><#return "">
+    </#switch>
+</#function>
+    /**
+     * Imports rows while they are read, committing every IMPORT_CHUNK_SIZE rows in its own
+     * transaction and flushing JDBC-sized batches inside it.
+     *
+     * A row that fails validation is reported and skipped. A chunk the database rejects is
+     * rolled back and replayed row by row, so only the offending rows end up in the report.
+     */
+<#if cached>
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "${tableModel.cacheName}", allEntries = true),
+            @CacheEvict(cacheNames = "${tableModel.listCacheName}", allEntries = true)
+    })
+</#if>
+    public ImportReport importRows(Iterator<ImportRow> rows) {
+        ImportReport report = new ImportReport();
+        List<${table.className}> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        List<ImportRow> sources = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        while (rows.hasNext()) {
+            ImportRow row = rows.next();
+            if (row.error() != null) {
+                report.rejected(row.line(), row.error());
+                continue;
+            }
+            try {
+                chunk.add(toEntity(row));
+                sources.add(row);
+            } catch (ImportRow.InvalidRowException e) {
+                report.rejected(row.line(), e.getMessage());
+            }
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                writeChunk(chunk, sources, report);
+                chunk.clear();
+                sources.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, sources, report);
+        }
+        return report;
+    }
+
+    private ${table.className} toEntity(ImportRow row) {
+        ${table.className} entity = new ${table.className}();
+<#list tableModel.dtoColumns as column>
+<#if !column.primaryKey && !(tableModel.versionColumn?? && column.fieldName == tableModel.versionColumn.fieldName)>
+<#if column.javaType == "String">
+        entity.set${column.fieldName?cap_first}(row.text("${column.fieldName}", ${(!column.nullable)?c}));
+<#elseif importParser(column.javaType) != "">
+        entity.set${column.fieldName?cap_first}(row.get("${column.fieldName}", ${(!column.nullable)?c}, ${importParser(column.javaType)}));
+<#else>
+        // ${column.fieldName} (${column.javaType}) cannot be imported from text
+</#if>
+</#if>
+</#list>
+<#list tableModel.referenceIds as ref>
+<#if importParser(ref.javaType) != "" || ref.javaType == "String">
+        ${ref.javaType} ${ref.fieldName} = <#if ref.javaType == "String">row.text("${ref.fieldName}", ${(!ref.nullable)?c})<#else>row.get("${ref.fieldName}", ${(!ref.nullable)?c}, ${importParser(ref.javaType)})</#if>;
+        if (${ref.fieldName} != null) {
+            // A proxy is enough to write the foreign key; the database checks that the row exists
+            entity.set${ref.relationship.fieldName?cap_first}(entityManager.getReference(${ref.relationship.targetClassName}.class, ${ref.fieldName}));
+        }
+</#if>
+</#list>
+        return entity;
+    }
+
+    private void writeChunk(List<${table.className}> chunk, List<ImportRow> sources, ImportReport report) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    entityManager.persist(chunk.get(i));
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+            });
+            report.imported(chunk.size());
+        } catch (RuntimeException chunkFailure) {
+            // Constraint violations surface from flush or commit; find the rows that caused them
+            for (int i = 0; i < chunk.size(); i++) {
+                ${table.className} entity = chunk.get(i);
+<#if tableModel.pkColumn??>
+                entity.set${tableModel.pkField?cap_first}(null);
+</#if>
+                try {
+                    transactionTemplate.executeWithoutResult(status -> entityManager.persist(entity));
+                    report.imported(1);
+                } catch (RuntimeException rowFailure) {
+                    report.rejected(sources.get(i).line(),
+                            NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage());
+                }
+            }
+        }
+    }
 
-    public void deleteById(<#list table.columns as col><#if col.primaryKey>${col.javaType}</#if></#list> id) {
+</#if>
+<#if cached>
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "${tableModel.cacheName}", key = "#id"),
+            @CacheEvict(cacheNames = "${tableModel.listCacheName}", allEntries = true)
+    })
+</#if>
+    public void deleteById(${tableModel.pkType} id) {
         repository.deleteById(id);
     }
 }
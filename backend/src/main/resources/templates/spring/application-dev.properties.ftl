@@ -0,0 +1,18 @@
+# Development overrides, active with the "dev" profile (e.g. SPRING_PROFILES_ACTIVE=dev)
+# application.properties holds the production settings
+
+# Log every statement
+<#if reactive?? && reactive>
+logging.level.org.springframework.r2dbc.core=DEBUG
+
+# A small pool is enough on a developer machine
+spring.r2dbc.pool.initial-size=1
+spring.r2dbc.pool.max-size=5
+<#else>
+spring.jpa.show-sql=true
+spring.jpa.properties.hibernate.format_sql=true
+
+# A small pool is enough on a developer machine
+spring.datasource.hikari.maximum-pool-size=5
+spring.datasource.hikari.minimum-idle=1
+</#if>
@@ -1,5 +1,9 @@
 # Application Configuration
 spring.application.name=${request.artifactId}
+<#if springConfig?? && springConfig.runtimeProfile == "dev">
+# Runs with the dev profile unless SPRING_PROFILES_ACTIVE says otherwise
+spring.profiles.default=dev
+</#if>
 
 # ==================== Database Configuration ====================
 <#if request.databaseType?? && request.databaseType == "postgresql">
@@ -41,14 +45,175 @@ spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver
 spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQL8Dialect
 </#if>
 
+<#if reactive?? && reactive>
+# ==================== R2DBC ====================
+<#assign dbType = request.databaseType!"mysql">
+<#if dbType == "postgresql">
+spring.r2dbc.url=r2dbc:postgresql://localhost:5432/${request.artifactId}
+spring.r2dbc.username=postgres
+<#elseif dbType == "mariadb">
+spring.r2dbc.url=r2dbc:mariadb://localhost:3306/${request.artifactId}
+spring.r2dbc.username=root
+<#elseif dbType == "sqlserver">
+spring.r2dbc.url=r2dbc:mssql://localhost:1433/${request.artifactId}
+spring.r2dbc.username=sa
+<#elseif dbType == "h2">
+spring.r2dbc.url=r2dbc:h2:mem:///${request.artifactId};DB_CLOSE_DELAY=-1
+spring.r2dbc.username=sa
+<#else>
+spring.r2dbc.url=r2dbc:mysql://localhost:3306/${request.artifactId}
+spring.r2dbc.username=root
+</#if>
+spring.r2dbc.password=
+# Fixed-size connection pool
+<#assign poolSize = (springConfig.connectionPoolSize)!10>
+spring.r2dbc.pool.initial-size=${poolSize?c}
+spring.r2dbc.pool.max-size=${poolSize?c}
+spring.r2dbc.pool.max-acquire-time=5s
+spring.r2dbc.pool.max-idle-time=10m
+spring.r2dbc.pool.max-life-time=30m
+
+# Flyway creates the schema over JDBC (spring.datasource.* above); the application only uses R2DBC
+spring.flyway.enabled=true
+spring.flyway.url=${"$"}{spring.datasource.url}
+spring.flyway.user=${"$"}{spring.datasource.username}
+spring.flyway.password=${"$"}{spring.datasource.password}
+<#else>
 # JPA/Hibernate Configuration
+<#if migrations?? && migrations>
+# Flyway owns the schema (src/main/resources/db/migration); Hibernate only checks it
+spring.jpa.hibernate.ddl-auto=validate
+spring.flyway.enabled=true
+<#else>
 spring.jpa.hibernate.ddl-auto=update
-spring.jpa.show-sql=true
-spring.jpa.properties.hibernate.format_sql=true
+</#if>
+# SQL logging lives in application-dev.properties
+spring.jpa.show-sql=false
+<#if dtoReads?? && dtoReads>
+# Reads return DTOs, so connections are released when the transaction ends, not after rendering
+spring.jpa.open-in-view=false
+<#else>
+# Controllers serialize entities whose lazy associations load while rendering, which needs
+# the session kept open; enable DTOs to turn this off and release connections earlier
+spring.jpa.open-in-view=true
+</#if>
+# Cache parsed queries; padding IN lists keeps their plans reusable
+spring.jpa.properties.hibernate.query.plan_cache_max_size=2048
+spring.jpa.properties.hibernate.query.in_clause_parameter_padding=true
+
+# ==================== Connection Pool ====================
+# Fixed-size pool: idle connections are kept so bursts do not pay for new ones
+<#assign poolSize = (springConfig.connectionPoolSize)!10>
+spring.datasource.hikari.maximum-pool-size=${poolSize?c}
+spring.datasource.hikari.minimum-idle=${poolSize?c}
+spring.datasource.hikari.connection-timeout=5000
+spring.datasource.hikari.validation-timeout=2000
+spring.datasource.hikari.idle-timeout=600000
+spring.datasource.hikari.max-lifetime=1800000
+spring.datasource.hikari.keepalive-time=300000
+<#assign dbType = request.databaseType!"mysql">
+<#if dbType == "postgresql">
+# Server-side prepared statements after 3 executions; multi-row inserts for batches
+spring.datasource.hikari.data-source-properties.prepareThreshold=3
+spring.datasource.hikari.data-source-properties.preparedStatementCacheQueries=256
+spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=true
+<#elseif dbType == "mariadb">
+# Cache server-side prepared statements; send batches with the bulk protocol
+spring.datasource.hikari.data-source-properties.useServerPrepStmts=true
+spring.datasource.hikari.data-source-properties.cachePrepStmts=true
+spring.datasource.hikari.data-source-properties.prepStmtCacheSize=250
+spring.datasource.hikari.data-source-properties.useBulkStmts=true
+<#elseif dbType != "sqlserver" && dbType != "h2">
+# Cache prepared statements; rewrite batches into multi-row inserts
+spring.datasource.hikari.data-source-properties.cachePrepStmts=true
+spring.datasource.hikari.data-source-properties.prepStmtCacheSize=250
+spring.datasource.hikari.data-source-properties.prepStmtCacheSqlLimit=2048
+spring.datasource.hikari.data-source-properties.useServerPrepStmts=true
+spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true
+spring.datasource.hikari.data-source-properties.cacheResultSetMetadata=true
+spring.datasource.hikari.data-source-properties.cacheServerConfiguration=true
+spring.datasource.hikari.data-source-properties.elideSetAutoCommits=true
+spring.datasource.hikari.data-source-properties.maintainTimeStats=false
+<#if springConfig?? && springConfig.streamingExport>
+# Honour the fetch size of export cursors instead of buffering whole result sets
+spring.datasource.hikari.data-source-properties.useCursorFetch=true
+</#if>
+</#if>
+<#if springConfig?? && springConfig.streamingExport>
+
+# ==================== Streaming Export ====================
+# Exports of large tables outlive the default async request timeout
+spring.mvc.async.request-timeout=30m
+</#if>
+<#if springConfig?? && (springConfig.bulkWrites || springConfig.streamingImport)>
+
+# ==================== Bulk Writes ====================
+# Group inserts and updates per entity into JDBC batches
+spring.jpa.properties.hibernate.jdbc.batch_size=${springConfig.jdbcBatchSize?c}
+spring.jpa.properties.hibernate.order_inserts=true
+spring.jpa.properties.hibernate.order_updates=true
+spring.jpa.properties.hibernate.jdbc.batch_versioned_data=true
+</#if>
+<#if springConfig?? && springConfig.readReplica>
+
+# ==================== Read Replica ====================
+# Read-only transactions use the replica pool, everything else the primary pool (spring.datasource.*)
+# Without REPLICA_DATASOURCE_* both pools point at the primary database
+spring.datasource.hikari.pool-name=primary
+app.datasource.replica.url=${"$"}{REPLICA_DATASOURCE_URL:${"$"}{spring.datasource.url}}
+app.datasource.replica.username=${"$"}{REPLICA_DATASOURCE_USERNAME:${"$"}{spring.datasource.username}}
+app.datasource.replica.password=${"$"}{REPLICA_DATASOURCE_PASSWORD:${"$"}{spring.datasource.password}}
+app.datasource.replica.driver-class-name=${"$"}{spring.datasource.driver-class-name}
+app.datasource.replica.hikari.pool-name=replica
+app.datasource.replica.hikari.read-only=true
+app.datasource.replica.hikari.maximum-pool-size=${poolSize?c}
+app.datasource.replica.hikari.minimum-idle=${poolSize?c}
+app.datasource.replica.hikari.connection-timeout=5000
+app.datasource.replica.hikari.max-lifetime=1800000
+app.datasource.replica.hikari.keepalive-time=300000
+# Release the connection after each transaction, so the reads and writes of one request
+# (and lazy loading while rendering) each get a connection from the right pool
+spring.jpa.properties.hibernate.connection.handling_mode=DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+</#if>
+</#if>
 
 # Server Configuration
 server.port=8080
+<#if springConfig?? && springConfig.paginationEnabled && !(reactive?? && reactive)>
+
+# ==================== Pagination ====================
+spring.data.web.pageable.default-page-size=${springConfig.defaultPageSize?c}
+spring.data.web.pageable.max-page-size=${springConfig.maxPageSize?c}
+</#if>
+<#if springConfig?? && springConfig.httpTuning>
 
+# ==================== HTTP ====================
+# Gzip JSON, NDJSON and CSV responses; tiny bodies are not worth the CPU
+server.compression.enabled=true
+server.compression.mime-types=application/json,application/x-ndjson,text/csv
+server.compression.min-response-size=1KB
+# HTTP/2 (h2c without TLS): one connection multiplexes all requests of a client
+server.http2.enabled=true
+</#if>
+
+<#if springConfig?? && springConfig.observability>
+# ==================== Observability ====================
+management.endpoints.web.exposure.include=health,info,metrics,prometheus
+management.endpoint.health.probes.enabled=true
+management.metrics.tags.application=${"$"}{spring.application.name}
+# Histogram buckets so Prometheus can compute any percentile across instances
+management.metrics.distribution.percentiles-histogram.http.server.requests=true
+management.metrics.distribution.slo.http.server.requests=50ms,100ms,250ms,500ms,1s
+<#if !(reactive?? && reactive)>
+# Enables the TimedAspect behind @Timed on the controllers
+management.observations.annotations.enabled=true
+# Query, entity and cache counters (hibernate.*); HikariCP pool gauges (hikaricp.*) are on by default
+spring.jpa.properties.hibernate.generate_statistics=true
+<#else>
+# R2DBC pool gauges (r2dbc.pool.*) are on by default
+</#if>
+
+</#if>
 <#if request.securityConfig?? && request.securityConfig.enabled>
 # ==================== Security Configuration ====================
 <#if hasJwt?? && hasJwt>
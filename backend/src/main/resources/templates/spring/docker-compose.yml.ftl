@@ -1,4 +1,6 @@
 version: '3.8'
+<#-- Read replica: the database runs as a replicating primary/replica pair -->
+<#assign replica = springConfig?? && springConfig.readReplica && !(reactive?? && reactive)>
 
 services:
   app:
@@ -25,6 +27,31 @@ services:
 <#else>
       - SPRING_DATASOURCE_URL=jdbc:h2:mem:testdb
 </#if>
+<#if replica>
+<#if hasMysql?? && hasMysql>
+      - REPLICA_DATASOURCE_URL=jdbc:mysql://mysql-replica:3306/${request.artifactId!"springdb"}?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC
+<#elseif hasPostgres?? && hasPostgres>
+      - REPLICA_DATASOURCE_URL=jdbc:postgresql://postgres-replica:5432/${request.artifactId!"springdb"}
+<#elseif hasMariadb?? && hasMariadb>
+      - REPLICA_DATASOURCE_URL=jdbc:mariadb://mariadb-replica:3306/${request.artifactId!"springdb"}
+</#if>
+</#if>
+<#if reactive?? && reactive>
+      # The app reads through R2DBC; the JDBC settings above only serve Flyway
+<#if hasMysql?? && hasMysql>
+      - SPRING_R2DBC_URL=r2dbc:mysql://mysql:3306/${request.artifactId!"springdb"}
+      - SPRING_R2DBC_USERNAME=root
+      - SPRING_R2DBC_PASSWORD=root
+<#elseif hasPostgres?? && hasPostgres>
+      - SPRING_R2DBC_URL=r2dbc:postgresql://postgres:5432/${request.artifactId!"springdb"}
+      - SPRING_R2DBC_USERNAME=postgres
+      - SPRING_R2DBC_PASSWORD=postgres
+<#elseif hasMariadb?? && hasMariadb>
+      - SPRING_R2DBC_URL=r2dbc:mariadb://mariadb:3306/${request.artifactId!"springdb"}
+      - SPRING_R2DBC_USERNAME=root
+      - SPRING_R2DBC_PASSWORD=root
+</#if>
+</#if>
 <#if hasJwt?? && hasJwt>
       # SECURITY: Set JWT_SECRET env variable in production with a secure random key
       # Generate with: openssl rand -base64 32
@@ -42,12 +69,71 @@ services:
 <#elseif hasMariadb?? && hasMariadb>
       mariadb:
         condition: service_healthy
+</#if>
+<#if replica>
+<#if hasMysql?? && hasMysql>
+      mysql-replica:
+        condition: service_healthy
+<#elseif hasPostgres?? && hasPostgres>
+      postgres-replica:
+        condition: service_healthy
+<#elseif hasMariadb?? && hasMariadb>
+      mariadb-replica:
+        condition: service_healthy
+</#if>
 </#if>
     networks:
       - spring-network
     restart: unless-stopped
 
-<#if hasMysql?? && hasMysql>
+<#if hasMysql?? && hasMysql && replica>
+  mysql:
+    image: bitnami/mysql:8.0
+    container_name: ${request.artifactId!"spring"}-mysql
+    environment:
+      - MYSQL_REPLICATION_MODE=master
+      - MYSQL_REPLICATION_USER=replicator
+      - MYSQL_REPLICATION_PASSWORD=replicator
+      - MYSQL_ROOT_PASSWORD=root
+      - MYSQL_DATABASE=${request.artifactId!"springdb"}
+    ports:
+      - "3306:3306"
+    volumes:
+      - mysql-data:/bitnami/mysql/data
+    healthcheck:
+      test: ["CMD", "mysqladmin", "ping", "-h", "localhost", "-uroot", "-proot"]
+      interval: 10s
+      timeout: 5s
+      retries: 5
+    networks:
+      - spring-network
+    restart: unless-stopped
+
+  mysql-replica:
+    image: bitnami/mysql:8.0
+    container_name: ${request.artifactId!"spring"}-mysql-replica
+    environment:
+      - MYSQL_REPLICATION_MODE=slave
+      - MYSQL_REPLICATION_USER=replicator
+      - MYSQL_REPLICATION_PASSWORD=replicator
+      - MYSQL_MASTER_HOST=mysql
+      - MYSQL_MASTER_PORT_NUMBER=3306
+      - MYSQL_MASTER_ROOT_PASSWORD=root
+    ports:
+      - "3307:3306"
+    healthcheck:
+      test: ["CMD", "mysqladmin", "ping", "-h", "localhost", "-uroot", "-proot"]
+      interval: 10s
+      timeout: 5s
+      retries: 5
+    depends_on:
+      mysql:
+        condition: service_healthy
+    networks:
+      - spring-network
+    restart: unless-stopped
+
+<#elseif hasMysql?? && hasMysql>
   mysql:
     image: mysql:8.0
     container_name: ${request.artifactId!"spring"}-mysql
@@ -68,7 +154,54 @@ services:
     restart: unless-stopped
 
 </#if>
-<#if hasPostgres?? && hasPostgres>
+<#if hasPostgres?? && hasPostgres && replica>
+  postgres:
+    image: bitnami/postgresql:15
+    container_name: ${request.artifactId!"spring"}-postgres
+    environment:
+      - POSTGRESQL_REPLICATION_MODE=master
+      - POSTGRESQL_REPLICATION_USER=replicator
+      - POSTGRESQL_REPLICATION_PASSWORD=replicator
+      - POSTGRESQL_PASSWORD=postgres
+      - POSTGRESQL_DATABASE=${request.artifactId!"springdb"}
+    ports:
+      - "5432:5432"
+    volumes:
+      - postgres-data:/bitnami/postgresql
+    healthcheck:
+      test: ["CMD-SHELL", "pg_isready -U postgres"]
+      interval: 10s
+      timeout: 5s
+      retries: 5
+    networks:
+      - spring-network
+    restart: unless-stopped
+
+  postgres-replica:
+    image: bitnami/postgresql:15
+    container_name: ${request.artifactId!"spring"}-postgres-replica
+    environment:
+      - POSTGRESQL_REPLICATION_MODE=slave
+      - POSTGRESQL_REPLICATION_USER=replicator
+      - POSTGRESQL_REPLICATION_PASSWORD=replicator
+      - POSTGRESQL_MASTER_HOST=postgres
+      - POSTGRESQL_MASTER_PORT_NUMBER=5432
+      - POSTGRESQL_PASSWORD=postgres
+    ports:
+      - "5433:5432"
+    healthcheck:
+      test: ["CMD-SHELL", "pg_isready -U postgres"]
+      interval: 10s
+      timeout: 5s
+      retries: 5
+    depends_on:
+      postgres:
+        condition: service_healthy
+    networks:
+      - spring-network
+    restart: unless-stopped
+
+<#elseif hasPostgres?? && hasPostgres>
   postgres:
     image: postgres:15-alpine
     container_name: ${request.artifactId!"spring"}-postgres
@@ -90,7 +223,54 @@ services:
     restart: unless-stopped
 
 </#if>
-<#if hasMariadb?? && hasMariadb>
+<#if hasMariadb?? && hasMariadb && replica>
+  mariadb:
+    image: bitnami/mariadb:10.11
+    container_name: ${request.artifactId!"spring"}-mariadb
+    environment:
+      - MARIADB_REPLICATION_MODE=master
+      - MARIADB_REPLICATION_USER=replicator
+      - MARIADB_REPLICATION_PASSWORD=replicator
+      - MARIADB_ROOT_PASSWORD=root
+      - MARIADB_DATABASE=${request.artifactId!"springdb"}
+    ports:
+      - "3306:3306"
+    volumes:
+      - mariadb-data:/bitnami/mariadb
+    healthcheck:
+      test: ["CMD", "mysqladmin", "ping", "-h", "localhost", "-uroot", "-proot"]
+      interval: 10s
+      timeout: 5s
+      retries: 5
+    networks:
+      - spring-network
+    restart: unless-stopped
+
+  mariadb-replica:
+    image: bitnami/mariadb:10.11
+    container_name: ${request.artifactId!"spring"}-mariadb-replica
+    environment:
+      - MARIADB_REPLICATION_MODE=slave
+      - MARIADB_REPLICATION_USER=replicator
+      - MARIADB_REPLICATION_PASSWORD=replicator
+      - MARIADB_MASTER_HOST=mariadb
+      - MARIADB_MASTER_PORT_NUMBER=3306
+      - MARIADB_MASTER_ROOT_PASSWORD=root
+    ports:
+      - "3307:3306"
+    healthcheck:
+      test: ["CMD", "mysqladmin", "ping", "-h", "localhost", "-uroot", "-proot"]
+      interval: 10s
+      timeout: 5s
+      retries: 5
+    depends_on:
+      mariadb:
+        condition: service_healthy
+    networks:
+      - spring-network
+    restart: unless-stopped
+
+<#elseif hasMariadb?? && hasMariadb>
   mariadb:
     image: mariadb:10.11
     container_name: ${request.artifactId!"spring"}-mariadb
@@ -136,6 +316,43 @@ services:
       - spring-network
     restart: unless-stopped
 
+</#if>
+<#if springConfig?? && springConfig.observability>
+  prometheus:
+    image: prom/prometheus:v2.51.2
+    container_name: ${request.artifactId!"spring"}-prometheus
+    command:
+      - --config.file=/etc/prometheus/prometheus.yml
+      - --storage.tsdb.retention.time=7d
+    ports:
+      - "9090:9090"
+    volumes:
+      - ./observability/prometheus.yml:/etc/prometheus/prometheus.yml:ro
+      - prometheus-data:/prometheus
+    depends_on:
+      - app
+    networks:
+      - spring-network
+    restart: unless-stopped
+
+  grafana:
+    image: grafana/grafana:10.4.2
+    container_name: ${request.artifactId!"spring"}-grafana
+    environment:
+      - GF_AUTH_ANONYMOUS_ENABLED=true
+      - GF_AUTH_ANONYMOUS_ORG_ROLE=Viewer
+    ports:
+      - "3000:3000"
+    volumes:
+      - ./observability/grafana/provisioning:/etc/grafana/provisioning:ro
+      - ./observability/grafana/dashboards:/etc/grafana/dashboards:ro
+      - grafana-data:/var/lib/grafana
+    depends_on:
+      - prometheus
+    networks:
+      - spring-network
+    restart: unless-stopped
+
 </#if>
 networks:
   spring-network:
@@ -157,3 +374,7 @@ volumes:
 <#if hasMongodb?? && hasMongodb>
   mongodb-data:
 </#if>
+<#if springConfig?? && springConfig.observability>
+  prometheus-data:
+  grafana-data:
+</#if>
@@ -0,0 +1,81 @@
+package ${packageName}.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * CRUD throughput baseline of the generated API.
+ *
+ * Every entity gets its own scenario (create, read, list, delete) injected at a
+ * constant arrival rate; entities that cannot be created from a plain payload are
+ * only listed. The run fails when the global p50/p95/p99 response times
+ * or the error rate exceed their limits.
+ *
+ * Settings (system properties): baseUrl, usersPerSec, durationSeconds, p50Millis,
+ * p95Millis, p99Millis and authorization (sent as the Authorization header as is).
+ */
+public class CrudSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+    private static final double USERS_PER_SEC = Double.parseDouble(System.getProperty("usersPerSec", "10"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("durationSeconds", 60));
+    private static final String AUTHORIZATION = System.getProperty("authorization", "");
+
+    private static final int P50_MILLIS = Integer.getInteger("p50Millis", 50);
+    private static final int P95_MILLIS = Integer.getInteger("p95Millis", 200);
+    private static final int P99_MILLIS = Integer.getInteger("p99Millis", 500);
+
+    private final HttpProtocolBuilder httpProtocol = protocol();
+<#list entities as entity>
+
+<#if entity.creatable>
+    private final ScenarioBuilder ${entity.className?uncap_first} = scenario("${entity.className} CRUD")
+            .exec(http("${entity.className} create").post("${entity.path}")
+                    .body(StringBody(session -> Payloads.${entity.className?uncap_first}()))
+                    .check(status().is(200), jsonPath("$.${entity.pkField}").saveAs("id")))
+            .exec(http("${entity.className} read").get("${entity.path}/${r"#{id}"}")
+                    .check(status().is(200)))
+            .exec(http("${entity.className} list").get("${entity.path}").queryParam("size", 20)
+                    .check(status().is(200)))
+            .exec(http("${entity.className} delete").delete("${entity.path}/${r"#{id}"}")
+                    .check(status().in(200, 204)));
+<#elseif entity.principal>
+    // Security principal: its CRUD endpoint drops the password, accounts come from /api/auth/register: reads only
+    private final ScenarioBuilder ${entity.className?uncap_first} = scenario("${entity.className} reads")
+            .exec(http("${entity.className} list").get("${entity.path}").queryParam("size", 20)
+                    .check(status().is(200)));
+<#else>
+    // Requires a parent row through a non-null foreign key: reads only
+    private final ScenarioBuilder ${entity.className?uncap_first} = scenario("${entity.className} reads")
+            .exec(http("${entity.className} list").get("${entity.path}").queryParam("size", 20)
+                    .check(status().is(200)));
+</#if>
+</#list>
+
+    {
+        setUp(
+<#list entities as entity>
+                ${entity.className?uncap_first}.injectOpen(constantUsersPerSec(USERS_PER_SEC).during(DURATION))<#sep>,</#sep>
+</#list>
+        )
+                .protocols(httpProtocol)
+                .assertions(
+                        global().responseTime().percentile(50.0).lt(P50_MILLIS),
+                        global().responseTime().percentile(95.0).lt(P95_MILLIS),
+                        global().responseTime().percentile(99.0).lt(P99_MILLIS),
+                        global().failedRequests().percent().lt(1.0));
+    }
+
+    private static HttpProtocolBuilder protocol() {
+        HttpProtocolBuilder protocol = http.baseUrl(BASE_URL)
+                .acceptHeader("application/json")
+                .contentTypeHeader("application/json");
+        return AUTHORIZATION.isEmpty() ? protocol : protocol.authorizationHeader(AUTHORIZATION);
+    }
+}
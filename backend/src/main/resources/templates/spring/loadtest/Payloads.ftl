@@ -0,0 +1,103 @@
+<#-- Java expression producing the JSON literal of a random value for a field -->
+<#function value field>
+    <#if field.javaType == "String">
+        <#return field.unique?then('quote(unique("${field.fieldName}", ${field.maxLength?c}))', 'quote(text(${field.maxLength?c}))')>
+    <#elseif field.javaType == "Long" || field.javaType == "Integer" || field.javaType == "Short">
+        <#return field.unique?then('String.valueOf(SEQUENCE.incrementAndGet())', 'String.valueOf(random().nextInt(1, ${(field.javaType == "Short")?then("30000", "100000")}))')>
+    <#elseif field.javaType == "BigDecimal" || field.javaType == "Double" || field.javaType == "Float">
+        <#return 'decimal()'>
+    <#elseif field.javaType == "Boolean">
+        <#return 'String.valueOf(random().nextBoolean())'>
+    <#elseif field.javaType == "LocalDate">
+        <#return 'quote(LocalDate.now().minusDays(random().nextInt(3650)).toString())'>
+    <#elseif field.javaType == "LocalDateTime">
+        <#return 'quote(LocalDateTime.now().minusMinutes(random().nextInt(525600)).truncatedTo(ChronoUnit.SECONDS).toString())'>
+    <#elseif field.javaType == "LocalTime">
+        <#return 'quote(LocalTime.of(random().nextInt(24), random().nextInt(60)).toString())'>
+    <#elseif field.javaType == "Instant">
+        <#return 'quote(Instant.now().minusSeconds(random().nextInt(31536000)).truncatedTo(ChronoUnit.SECONDS).toString())'>
+    <#elseif field.javaType == "UUID">
+        <#return 'quote(UUID.randomUUID().toString())'>
+    </#if>
+    <#return 'quote(text(${field.maxLength?c}))'>
+</#function>
+package ${packageName}.loadtest;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Random request bodies for the load test, one method per entity.
+ *
+ * Values follow the Java type of each column; nullable columns are left out of
+ * some payloads and unique columns never repeat within a run.
+ */
+final class Payloads {
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    /** Share of payloads that omit a nullable column */
+    private static final double NULL_RATIO = 0.2;
+
+    /** Source of unique values, started from the clock so reruns do not collide */
+    private static final AtomicLong SEQUENCE = new AtomicLong(System.currentTimeMillis() % 1_000_000_000L);
+
+    private Payloads() {
+    }
+<#list entities as entity>
+
+    static String ${entity.className?uncap_first}() {
+        StringBuilder json = new StringBuilder("{");
+<#list entity.fields as field>
+<#if field.nullable>
+        if (random().nextDouble() >= NULL_RATIO) {
+            field(json, "${field.fieldName}", ${value(field)});
+        }
+<#else>
+        field(json, "${field.fieldName}", ${value(field)});
+</#if>
+</#list>
+        return json.append('}').toString();
+    }
+</#list>
+
+    private static void field(StringBuilder json, String name, String value) {
+        if (json.length() > 1) {
+            json.append(',');
+        }
+        json.append('"').append(name).append("\":").append(value);
+    }
+
+    private static String quote(String value) {
+        return '"' + value + '"';
+    }
+
+    private static String text(int maxLength) {
+        int length = random().nextInt(Math.min(8, maxLength), maxLength + 1);
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET.charAt(random().nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+
+    private static String unique(String prefix, int maxLength) {
+        String value = prefix + SEQUENCE.incrementAndGet();
+        return value.length() <= maxLength ? value : value.substring(value.length() - maxLength);
+    }
+
+    private static String decimal() {
+        return String.format(Locale.ROOT, "%.2f", random().nextDouble(1, 10000));
+    }
+
+    private static ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+}
@@ -0,0 +1,42 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<!--
+	Standalone load-test module: it does not depend on the application and drives it over HTTP.
+	Start the application (H2 or a local database), then run:
+	  mvn gatling:test -DbaseUrl=http://localhost:8080 -DusersPerSec=20 -DdurationSeconds=60
+-->
+<project xmlns="http://maven.apache.org/POM/4.0.0" xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+	xsi:schemaLocation="http://maven.apache.org/POM/4.0.0 https://maven.apache.org/xsd/maven-4.0.0.xsd">
+	<modelVersion>4.0.0</modelVersion>
+	<groupId>${request.groupId!packageName}</groupId>
+	<artifactId>${artifactId}-load-tests</artifactId>
+	<version>0.0.1-SNAPSHOT</version>
+	<name>${request.name!artifactId} load tests</name>
+	<properties>
+		<maven.compiler.release>${request.javaVersion!"17"}</maven.compiler.release>
+		<project.build.sourceEncoding>UTF-8</project.build.sourceEncoding>
+		<gatling.version>3.10.5</gatling.version>
+		<gatling-maven-plugin.version>4.9.6</gatling-maven-plugin.version>
+	</properties>
+	<dependencies>
+		<dependency>
+			<groupId>io.gatling.highcharts</groupId>
+			<artifactId>gatling-charts-highcharts</artifactId>
+			<version>${r"${gatling.version}"}</version>
+			<scope>test</scope>
+		</dependency>
+	</dependencies>
+	<build>
+		<plugins>
+			<plugin>
+				<groupId>io.gatling</groupId>
+				<artifactId>gatling-maven-plugin</artifactId>
+				<version>${r"${gatling-maven-plugin.version}"}</version>
+				<configuration>
+					<simulationClass>${packageName}.loadtest.CrudSimulation</simulationClass>
+					<!-- Fails the build when an assertion (percentiles, error rate) is not met -->
+					<failOnError>true</failOnError>
+				</configuration>
+			</plugin>
+		</plugins>
+	</build>
+</project>
@@ -0,0 +1,20 @@
+-- Tables of the generated entities, with primary keys and unique constraints.
+-- Indexes and foreign keys follow in V2 and V3.
+<#list schema.sequences as sequence>
+
+create sequence ${sequence.name} start with 1 increment by ${sequence.increment?c};
+</#list>
+<#list schema.tables as table>
+
+create table ${table.name} (
+<#list table.columns as column>
+    ${column.name} ${column.sqlType}<#if column.clause??> ${column.clause}</#if><#if !column.nullable> not null</#if><#if column?has_next || table.primaryKey?has_content || table.uniqueColumns?has_content>,</#if>
+</#list>
+<#if table.primaryKey?has_content>
+    primary key (${table.primaryKey?join(", ")})<#if table.uniqueColumns?has_content>,</#if>
+</#if>
+<#list table.uniqueColumns as unique>
+    constraint uk_${table.name}_${unique} unique (${unique})<#sep>,</#sep>
+</#list>
+);
+</#list>
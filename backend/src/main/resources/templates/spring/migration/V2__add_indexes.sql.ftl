@@ -0,0 +1,8 @@
+-- Indexes on every foreign key column, so joins and child lookups do not scan.
+-- Join tables are covered in both directions: their primary key serves (source, target),
+-- the reverse index serves (target, source).
+-- Created before the foreign keys, which MySQL would otherwise index on its own.
+<#list schema.indexes as index>
+
+create index ${index.name} on ${index.table} (${index.columns?join(", ")});
+</#list>
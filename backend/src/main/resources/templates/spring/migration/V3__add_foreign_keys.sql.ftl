@@ -0,0 +1,5 @@
+-- Foreign key constraints, added once every table exists so creation order does not matter.
+<#list schema.foreignKeys as fk>
+
+alter table ${fk.table} add constraint ${fk.name} foreign key (${fk.column}) references ${fk.referencedTable} (${fk.referencedColumn});
+</#list>
@@ -0,0 +1,65 @@
+<#assign app = request.artifactId!"spring-app">
+<#assign selector = "application=\\\"" + app + "\\\"">
+<#macro panel id title x y unit expressions>
+    {
+      "id": ${id?c},
+      "type": "timeseries",
+      "title": "${title}",
+      "datasource": { "type": "prometheus", "uid": "prometheus" },
+      "gridPos": { "h": 8, "w": 12, "x": ${x?c}, "y": ${y?c} },
+      "fieldConfig": { "defaults": { "unit": "${unit}" }, "overrides": [] },
+      "targets": [
+<#list expressions as expression>
+        { "refId": "${"ABCDEFGH"[expression?index]}", "expr": "${expression[0]}", "legendFormat": "${expression[1]}" }<#sep>,</#sep>
+</#list>
+      ]
+    }</#macro>
+{
+  "uid": "${app}",
+  "title": "${app}",
+  "tags": ["spring-boot"],
+  "timezone": "browser",
+  "schemaVersion": 39,
+  "refresh": "10s",
+  "time": { "from": "now-1h", "to": "now" },
+  "panels": [
+<@panel id=1 title="Requests per second" x=0 y=0 unit="reqps" expressions=[
+    ["sum by (method, uri) (rate(http_server_requests_seconds_count{${selector}}[1m]))", "{{method}} {{uri}}"]
+]/>,
+<@panel id=2 title="Server errors per second" x=12 y=0 unit="reqps" expressions=[
+    ["sum by (method, uri) (rate(http_server_requests_seconds_count{${selector}, outcome=\\\"SERVER_ERROR\\\"}[1m]))", "{{method}} {{uri}}"]
+]/>,
+<@panel id=3 title="p95 latency" x=0 y=8 unit="s" expressions=[
+    ["histogram_quantile(0.95, sum by (le, method, uri) (rate(http_server_requests_seconds_bucket{${selector}}[5m])))", "{{method}} {{uri}}"]
+]/>,
+<@panel id=4 title="p99 latency" x=12 y=8 unit="s" expressions=[
+    ["histogram_quantile(0.99, sum by (le, method, uri) (rate(http_server_requests_seconds_bucket{${selector}}[5m])))", "{{method}} {{uri}}"]
+]/>,
+<#if reactive?? && reactive>
+<@panel id=5 title="R2DBC pool" x=0 y=16 unit="short" expressions=[
+    ["sum(r2dbc_pool_acquired_connections{${selector}})", "acquired"],
+    ["sum(r2dbc_pool_pending_connections{${selector}})", "pending"],
+    ["sum(r2dbc_pool_max_allocated_connections{${selector}})", "max"]
+]/>
+<#else>
+<@panel id=5 title="HikariCP pool" x=0 y=16 unit="short" expressions=[
+    ["sum(hikaricp_connections_active{${selector}})", "active"],
+    ["sum(hikaricp_connections_pending{${selector}})", "pending"],
+    ["sum(hikaricp_connections_max{${selector}})", "max"]
+]/>,
+<@panel id=6 title="Connection acquire time (max)" x=12 y=16 unit="s" expressions=[
+    ["max(hikaricp_connections_acquire_seconds_max{${selector}})", "acquire"],
+    ["max(hikaricp_connections_usage_seconds_max{${selector}})", "usage"]
+]/>,
+<@panel id=7 title="Hibernate queries and statements per second" x=0 y=24 unit="ops" expressions=[
+    ["sum(rate(hibernate_query_executions_total{${selector}}[1m]))", "queries"],
+    ["sum(rate(hibernate_statements_total{${selector}, status=\\\"prepared\\\"}[1m]))", "statements prepared"],
+    ["sum(rate(hibernate_entities_loads_total{${selector}}[1m]))", "entity loads"]
+]/>,
+<@panel id=8 title="Hibernate second-level and query cache" x=12 y=24 unit="ops" expressions=[
+    ["sum by (result) (rate(hibernate_second_level_cache_requests_total{${selector}}[1m]))", "L2 {{result}}"],
+    ["sum by (result) (rate(hibernate_cache_query_requests_total{${selector}}[1m]))", "query cache {{result}}"]
+]/>
+</#if>
+  ]
+}
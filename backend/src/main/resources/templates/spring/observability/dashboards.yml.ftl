@@ -0,0 +1,9 @@
+apiVersion: 1
+
+providers:
+  - name: ${request.artifactId!"spring-app"}
+    folder: Services
+    type: file
+    allowUiUpdates: true
+    options:
+      path: /etc/grafana/dashboards
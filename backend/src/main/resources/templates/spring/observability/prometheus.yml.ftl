@@ -0,0 +1,10 @@
+# Scrapes the application's Micrometer registry every 15 seconds
+global:
+  scrape_interval: 15s
+  evaluation_interval: 15s
+
+scrape_configs:
+  - job_name: ${request.artifactId!"spring-app"}
+    metrics_path: /actuator/prometheus
+    static_configs:
+      - targets: ["app:8080"]
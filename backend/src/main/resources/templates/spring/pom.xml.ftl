@@ -15,6 +15,10 @@
 	<description>${request.description!"Generated Spring Boot Project"}</description>
 	<properties>
 		<java.version>${request.javaVersion!"17"}</java.version>
+		<#if springConfig.nativeImage>
+		<!-- Tests tagged "native" need the running application and its database; the nativeTest profile runs them -->
+		<excluded.test.groups>native</excluded.test.groups>
+		</#if>
 	</properties>
 	<dependencies>
 		<dependency>
@@ -37,12 +41,136 @@
         </#list>
         </#if>
 
+		<#if reactive>
+		<!-- Reactive stack: WebFlux + R2DBC (the JDBC driver and spring-jdbc serve Flyway only) -->
+		<dependency>
+			<groupId>org.springframework.boot</groupId>
+			<artifactId>spring-boot-starter-webflux</artifactId>
+		</dependency>
+		<dependency>
+			<groupId>org.springframework.boot</groupId>
+			<artifactId>spring-boot-starter-data-r2dbc</artifactId>
+		</dependency>
+		<dependency>
+			<groupId>org.springframework</groupId>
+			<artifactId>spring-jdbc</artifactId>
+		</dependency>
+		<#assign r2dbcType = request.databaseType!"mysql">
+		<dependency>
+		<#if r2dbcType == "postgresql">
+			<groupId>org.postgresql</groupId>
+			<artifactId>r2dbc-postgresql</artifactId>
+		<#elseif r2dbcType == "mariadb">
+			<groupId>org.mariadb</groupId>
+			<artifactId>r2dbc-mariadb</artifactId>
+		<#elseif r2dbcType == "sqlserver">
+			<groupId>io.r2dbc</groupId>
+			<artifactId>r2dbc-mssql</artifactId>
+		<#elseif r2dbcType == "h2">
+			<groupId>io.r2dbc</groupId>
+			<artifactId>r2dbc-h2</artifactId>
+		<#else>
+			<groupId>io.asyncer</groupId>
+			<artifactId>r2dbc-mysql</artifactId>
+		</#if>
+			<scope>runtime</scope>
+		</dependency>
+		<dependency>
+			<groupId>io.projectreactor</groupId>
+			<artifactId>reactor-test</artifactId>
+			<scope>test</scope>
+		</dependency>
+		</#if>
+
 		<dependency>
 			<groupId>org.springframework.boot</groupId>
 			<artifactId>spring-boot-starter-test</artifactId>
 			<scope>test</scope>
 		</dependency>
 
+		<#if request.includeMapper && request.includeTests>
+		<!-- JMH for the generated mapper benchmarks -->
+		<dependency>
+			<groupId>org.openjdk.jmh</groupId>
+			<artifactId>jmh-core</artifactId>
+			<version>1.37</version>
+			<scope>test</scope>
+		</dependency>
+		<dependency>
+			<groupId>org.openjdk.jmh</groupId>
+			<artifactId>jmh-generator-annprocess</artifactId>
+			<version>1.37</version>
+			<scope>test</scope>
+		</dependency>
+		</#if>
+
+		<#if springConfig.cacheEnabled && !reactive>
+		<!-- Caching: Redis when selected, in-process Caffeine otherwise -->
+		<dependency>
+			<groupId>org.springframework.boot</groupId>
+			<artifactId>spring-boot-starter-cache</artifactId>
+		</dependency>
+		<#if !(hasRedis?? && hasRedis)>
+		<dependency>
+			<groupId>com.github.ben-manes.caffeine</groupId>
+			<artifactId>caffeine</artifactId>
+		</dependency>
+		</#if>
+		</#if>
+
+		<#if springConfig.observability>
+		<!-- Observability: Actuator endpoints and Prometheus metrics -->
+		<dependency>
+			<groupId>org.springframework.boot</groupId>
+			<artifactId>spring-boot-starter-actuator</artifactId>
+		</dependency>
+		<dependency>
+			<groupId>io.micrometer</groupId>
+			<artifactId>micrometer-registry-prometheus</artifactId>
+			<scope>runtime</scope>
+		</dependency>
+		<#if !reactive>
+		<!-- @Timed on controllers runs through an aspect -->
+		<dependency>
+			<groupId>org.springframework.boot</groupId>
+			<artifactId>spring-boot-starter-aop</artifactId>
+		</dependency>
+		<!-- Exports Hibernate statistics as Micrometer meters -->
+		<dependency>
+			<groupId>org.hibernate.orm</groupId>
+			<artifactId>hibernate-micrometer</artifactId>
+		</dependency>
+		</#if>
+		</#if>
+
+		<#if springConfig.httpTuning && !springConfig.nativeImage>
+		<!-- Faster Jackson (de)serializers; the version comes from the Spring Boot BOM -->
+		<dependency>
+			<groupId>com.fasterxml.jackson.module</groupId>
+			<artifactId>jackson-module-blackbird</artifactId>
+		</dependency>
+		</#if>
+
+		<#if migrations>
+		<!-- Schema migrations -->
+		<dependency>
+			<groupId>org.flywaydb</groupId>
+			<artifactId>flyway-core</artifactId>
+		</dependency>
+		<#assign dbType = request.databaseType!"mysql">
+		<#if dbType == "sqlserver">
+		<dependency>
+			<groupId>org.flywaydb</groupId>
+			<artifactId>flyway-sqlserver</artifactId>
+		</dependency>
+		<#elseif dbType != "postgresql" && dbType != "h2">
+		<dependency>
+			<groupId>org.flywaydb</groupId>
+			<artifactId>flyway-mysql</artifactId>
+		</dependency>
+		</#if>
+		</#if>
+
 		<#if hasJwt?? && hasJwt>
 		<!-- JWT Dependencies -->
 		<dependency>
@@ -62,6 +190,14 @@
 			<version>0.11.5</version>
 			<scope>runtime</scope>
 		</dependency>
+		<#assign cachingCaffeine = springConfig.cacheEnabled && !reactive && !(hasRedis?? && hasRedis)>
+		<#if request.securityConfig.jwtUserCache && !request.securityConfig.jwtAuthoritiesInToken && !cachingCaffeine>
+		<!-- Per-token user cache of the JWT filter -->
+		<dependency>
+			<groupId>com.github.ben-manes.caffeine</groupId>
+			<artifactId>caffeine</artifactId>
+		</dependency>
+		</#if>
 		</#if>
 	</dependencies>
 
@@ -81,7 +217,76 @@
 				</configuration>
 				</#if>
 			</plugin>
+			<#if springConfig.nativeImage>
+			<plugin>
+				<groupId>org.apache.maven.plugins</groupId>
+				<artifactId>maven-surefire-plugin</artifactId>
+				<configuration>
+					<excludedGroups>${r"${excluded.test.groups}"}</excludedGroups>
+				</configuration>
+			</plugin>
+			</#if>
 		</plugins>
 	</build>
+	<#if springConfig.nativeImage>
+
+	<profiles>
+		<!-- ./mvnw -Pnative native:compile builds the native executable; -PnativeTest test runs the tests natively -->
+		<profile>
+			<id>native</id>
+			<build>
+				<plugins>
+					<plugin>
+						<groupId>org.springframework.boot</groupId>
+						<artifactId>spring-boot-maven-plugin</artifactId>
+						<executions>
+							<execution>
+								<id>process-aot</id>
+								<goals>
+									<goal>process-aot</goal>
+								</goals>
+							</execution>
+						</executions>
+					</plugin>
+					<plugin>
+						<groupId>org.graalvm.buildtools</groupId>
+						<artifactId>native-maven-plugin</artifactId>
+						<configuration>
+							<buildArgs>
+								<buildArg>--no-fallback</buildArg>
+							</buildArgs>
+						</configuration>
+					</plugin>
+					<#if !reactive>
+					<!-- Native images cannot generate proxies at runtime, so lazy associations are enhanced at build time -->
+					<plugin>
+						<groupId>org.hibernate.orm.tooling</groupId>
+						<artifactId>hibernate-enhance-maven-plugin</artifactId>
+						<version>${r"${hibernate.version}"}</version>
+						<executions>
+							<execution>
+								<goals>
+									<goal>enhance</goal>
+								</goals>
+								<configuration>
+									<enableLazyInitialization>true</enableLazyInitialization>
+									<enableDirtyTracking>true</enableDirtyTracking>
+								</configuration>
+							</execution>
+						</executions>
+					</plugin>
+					</#if>
+				</plugins>
+			</build>
+		</profile>
+		<!-- Adds to the nativeTest profile of spring-boot-starter-parent: also run the tests tagged "native" -->
+		<profile>
+			<id>nativeTest</id>
+			<properties>
+				<excluded.test.groups></excluded.test.groups>
+			</properties>
+		</profile>
+	</profiles>
+	</#if>
 
 </project>
@@ -0,0 +1,107 @@
+package ${packageName}.controller;
+
+import ${packageName}.entity.${table.className};
+import ${packageName}.service.${table.className}Service;
+<#assign keyset = springConfig.keysetPagination && tableModel.pkColumn??>
+<#if springConfig.paginationEnabled>
+import org.springframework.data.domain.PageRequest;
+</#if>
+<#if springConfig.nativeImage>
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+</#if>
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+<#if springConfig.nativeImage>
+// Native image: reflection metadata for the JSON bodies
+@RegisterReflectionForBinding(${table.className}.class)
+</#if>
+@RestController
+@RequestMapping("/api/${table.className?lower_case}s")
+public class ${table.className}Controller {
+<#if springConfig.paginationEnabled || keyset>
+
+    private static final int MAX_PAGE_SIZE = ${springConfig.maxPageSize?c};
+</#if>
+
+    private final ${table.className}Service service;
+
+    public ${table.className}Controller(${table.className}Service service) {
+    this.service = service;
+    }
+
+    // Streams rows as they are read: NDJSON for Accept: application/x-ndjson, a JSON array otherwise
+<#if springConfig.paginationEnabled>
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<${table.className}> getAll(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "${springConfig.defaultPageSize?c}") int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return service.findAll(PageRequest.of(Math.max(0, page), limit));
+    }
+<#else>
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<${table.className}> getAll() {
+        return service.findAll();
+    }
+</#if>
+<#if keyset>
+
+    // The last key of a full page is the "after" of the next one
+    @GetMapping(value = "/seek", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<${table.className}> seek(
+            @RequestParam(required = false) ${tableModel.pkType} after,
+            @RequestParam(defaultValue = "${springConfig.defaultPageSize?c}") int size) {
+        return service.findAfter(after, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+</#if>
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<${table.className}>> getById(@PathVariable ${tableModel.pkType} id) {
+        return service.findById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping
+    public Mono<${table.className}> create(@RequestBody ${table.className} entity) {
+        return service.save(entity);
+    }
+<#if springConfig.bulkWrites>
+
+    // Bulk load: accepts a JSON array or an NDJSON stream and returns the saved rows as they are written
+    @PostMapping(value = "/batch", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<${table.className}> createAll(@RequestBody Flux<${table.className}> entities) {
+        return service.saveAll(entities);
+    }
+</#if>
+
+<#if tableModel.pkColumn??>
+
+    // Copies the body onto the stored row: the primary key always comes from the path
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<${table.className}>> update(@PathVariable ${tableModel.pkType} id,
+                                                    @RequestBody ${table.className} entity) {
+        return service.findById(id)
+                .flatMap(existing -> {
+<#list table.columns as column>
+<#if !column.primaryKey>
+                    existing.set${column.fieldName?cap_first}(entity.get${column.fieldName?cap_first}());
+</#if>
+</#list>
+                    return service.save(existing);
+                })
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+</#if>
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable ${tableModel.pkType} id) {
+        return service.deleteById(id)
+                .then(Mono.just(ResponseEntity.ok().<Void>build()));
+    }
+}
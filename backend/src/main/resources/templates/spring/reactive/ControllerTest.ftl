@@ -0,0 +1,108 @@
+package ${packageName}.controller;
+
+import ${packageName}.entity.${table.className};
+import ${packageName}.service.${table.className}Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+<#if springConfig.paginationEnabled>
+import org.springframework.data.domain.Pageable;
+</#if>
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ${table.className}Controller}
+ */
+@WebFluxTest(${table.className}Controller.class)
+class ${table.className}ControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ${table.className}Service service;
+
+    private ${table.className} ${table.className?uncap_first};
+
+    @BeforeEach
+    void setUp() {
+        ${table.className?uncap_first} = new ${table.className}();
+        <#if tableModel.pkColumn??>
+        ${table.className?uncap_first}.set${tableModel.pkField?cap_first}(1L);
+        </#if>
+    }
+
+    @Test
+    @DisplayName("GET /api/${table.className?lower_case}s - Should stream all ${table.className} entities")
+    void shouldGetAll${table.className}s() {
+<#if springConfig.paginationEnabled>
+        when(service.findAll(any(Pageable.class))).thenReturn(Flux.just(${table.className?uncap_first}));
+<#else>
+        when(service.findAll()).thenReturn(Flux.just(${table.className?uncap_first}));
+</#if>
+
+        webTestClient.get().uri("/api/${table.className?lower_case}s")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(${table.className}.class).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/${table.className?lower_case}s/{id} - Should return 404 when not found")
+    void shouldReturn404WhenNotFound() {
+        when(service.findById(999L)).thenReturn(Mono.empty());
+
+        webTestClient.get().uri("/api/${table.className?lower_case}s/999")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("POST /api/${table.className?lower_case}s - Should create new ${table.className}")
+    void shouldCreate${table.className}() {
+        when(service.save(any(${table.className}.class))).thenReturn(Mono.just(${table.className?uncap_first}));
+
+        webTestClient.post().uri("/api/${table.className?lower_case}s")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(${table.className?uncap_first})
+                .exchange()
+                .expectStatus().isOk();
+    }
+<#if tableModel.pkColumn??>
+
+    @Test
+    @DisplayName("PUT /api/${table.className?lower_case}s/{id} - Should update existing ${table.className}")
+    void shouldUpdate${table.className}() {
+        when(service.findById(1L)).thenReturn(Mono.just(${table.className?uncap_first}));
+        when(service.save(any(${table.className}.class))).thenReturn(Mono.just(${table.className?uncap_first}));
+
+        webTestClient.put().uri("/api/${table.className?lower_case}s/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(${table.className?uncap_first})
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("PUT /api/${table.className?lower_case}s/{id} - Should return 404 when not found")
+    void shouldReturn404WhenUpdatingMissing${table.className}() {
+        when(service.findById(999L)).thenReturn(Mono.empty());
+
+        webTestClient.put().uri("/api/${table.className?lower_case}s/999")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(${table.className?uncap_first})
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+</#if>
+}
@@ -0,0 +1,32 @@
+package ${packageName}.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+<#list tableModel.columnImports as javaImport>
+import ${javaImport};
+</#list>
+
+<#-- R2DBC maps rows, not object graphs: foreign keys are plain id fields -->
+@Table("${table.name}")
+public class ${table.className} {
+
+<#list table.columns as column>
+    <#if column.primaryKey>
+    @Id
+    </#if>
+    @Column("${column.name}")
+    private ${column.javaType} ${column.fieldName};
+
+</#list>
+<#list table.columns as column>
+    public ${column.javaType} get${column.fieldName?cap_first}() {
+        return ${column.fieldName};
+    }
+
+    public void set${column.fieldName?cap_first}(${column.javaType} ${column.fieldName}) {
+        this.${column.fieldName} = ${column.fieldName};
+    }
+
+</#list>
+}
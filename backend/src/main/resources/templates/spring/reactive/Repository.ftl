@@ -0,0 +1,29 @@
+package ${packageName}.repository;
+
+import ${packageName}.entity.${table.className};
+<#assign keyset = springConfig.keysetPagination && tableModel.pkColumn??>
+<#if springConfig.paginationEnabled || keyset>
+import org.springframework.data.domain.Pageable;
+</#if>
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+<#if springConfig.paginationEnabled || keyset>
+import reactor.core.publisher.Flux;
+</#if>
+
+@Repository
+public interface ${table.className}Repository extends R2dbcRepository<${table.className}, ${tableModel.pkType}> {
+<#if springConfig.paginationEnabled>
+
+    // Rows are emitted as they are read; no count query per request
+    Flux<${table.className}> findAllBy(Pageable pageable);
+</#if>
+<#if keyset>
+<#assign pkName = tableModel.pkField?cap_first>
+
+    // Keyset pagination: seeks on the primary key index instead of skipping rows
+    Flux<${table.className}> findAllByOrderBy${pkName}Asc(Pageable pageable);
+
+    Flux<${table.className}> findBy${pkName}GreaterThanOrderBy${pkName}Asc(${tableModel.pkType} after, Pageable pageable);
+</#if>
+}
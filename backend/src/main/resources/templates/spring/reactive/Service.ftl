@@ -0,0 +1,68 @@
+package ${packageName}.service;
+
+import ${packageName}.entity.${table.className};
+import ${packageName}.repository.${table.className}Repository;
+<#assign keyset = springConfig.keysetPagination && tableModel.pkColumn??>
+<#if springConfig.paginationEnabled>
+import org.springframework.data.domain.Pageable;
+</#if>
+<#if keyset>
+import org.springframework.data.domain.PageRequest;
+</#if>
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class ${table.className}Service {
+
+    private final ${table.className}Repository repository;
+
+    public ${table.className}Service(${table.className}Repository repository) {
+    this.repository = repository;
+    }
+
+    public Flux<${table.className}> findAll() {
+        return repository.findAll();
+    }
+<#if springConfig.paginationEnabled>
+
+    public Flux<${table.className}> findAll(Pageable pageable) {
+        return repository.findAllBy(pageable);
+    }
+</#if>
+<#if keyset>
+<#assign pkName = tableModel.pkField?cap_first>
+
+    public Flux<${table.className}> findAfter(${tableModel.pkType} after, int size) {
+        PageRequest limit = PageRequest.of(0, size);
+        if (after == null) {
+            return repository.findAllByOrderBy${pkName}Asc(limit);
+        }
+        return repository.findBy${pkName}GreaterThanOrderBy${pkName}Asc(after, limit);
+    }
+</#if>
+
+    public Mono<${table.className}> findById(${tableModel.pkType} id) {
+        return repository.findById(id);
+    }
+
+    @Transactional
+    public Mono<${table.className}> save(${table.className} entity) {
+        return repository.save(entity);
+    }
+<#if springConfig.bulkWrites>
+
+    // Saves entities as they arrive, without buffering the whole request
+    @Transactional
+    public Flux<${table.className}> saveAll(Flux<${table.className}> entities) {
+        return repository.saveAll(entities);
+    }
+</#if>
+
+    @Transactional
+    public Mono<Void> deleteById(${tableModel.pkType} id) {
+        return repository.deleteById(id);
+    }
+}
@@ -13,6 +13,9 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
+<#if security.jwtAuthoritiesInToken>
+import org.springframework.security.core.userdetails.UserDetailsService;
+</#if>
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,27 +26,38 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
+<#if security.jwtAuthoritiesInToken>
+    private final UserDetailsService userDetailsService;
+</#if>
 <#if security.principalEntity??>
     private final ${security.principalEntity}Repository userRepository;
 
     public AuthController(
             AuthenticationManager authenticationManager,
             JwtUtil jwtUtil,
-            PasswordEncoder passwordEncoder,
+            PasswordEncoder passwordEncoder,<#if security.jwtAuthoritiesInToken>
+            UserDetailsService userDetailsService,</#if>
             ${security.principalEntity}Repository userRepository) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
         this.passwordEncoder = passwordEncoder;
+<#if security.jwtAuthoritiesInToken>
+        this.userDetailsService = userDetailsService;
+</#if>
         this.userRepository = userRepository;
     }
 <#else>
     public AuthController(
             AuthenticationManager authenticationManager,
             JwtUtil jwtUtil,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder<#if security.jwtAuthoritiesInToken>,
+            UserDetailsService userDetailsService</#if>) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
         this.passwordEncoder = passwordEncoder;
+<#if security.jwtAuthoritiesInToken>
+        this.userDetailsService = userDetailsService;
+</#if>
     }
 </#if>
 
@@ -101,9 +115,16 @@ public class AuthController {
                 return ResponseEntity.status(401).build();
             }
             
+<#if security.jwtAuthoritiesInToken>
+            // Re-read the user so the new access token carries the current authorities
+            String accessToken = jwtUtil.generateToken(userDetailsService.loadUserByUsername(username));
+<#else>
+            String accessToken = jwtUtil.generateTokenFromUsername(username);
+</#if>
+
             // Generate new access token
             return ResponseEntity.ok(new AuthResponse(
-                    jwtUtil.generateTokenFromUsername(username),
+                    accessToken,
                     refreshToken,
                     "Bearer"
             ));
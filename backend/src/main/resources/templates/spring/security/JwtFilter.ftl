@@ -1,6 +1,12 @@
 package ${packageName}.config;
 
+<#assign claimsAuth = security.jwtAuthoritiesInToken>
+<#assign userCache = security.jwtUserCache && !claimsAuth>
+<#if !claimsAuth>
 import ${packageName}.service.auth.CustomUserDetailsService;
+</#if>
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,23 +14,58 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+<#if claimsAuth>
+import org.springframework.security.core.userdetails.User;
+</#if>
 import org.springframework.security.core.userdetails.UserDetails;
+<#if !claimsAuth>
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+</#if>
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+<#if claimsAuth>
+/**
+ * Authenticates requests from the token alone: the signature and expiry are verified
+ * and the authorities come from the token's claims, so no database lookup is made.
+ * Role changes apply from the user's next token.
+ */
+<#elseif userCache>
+/**
+ * Authenticates requests carrying a valid JWT. The user is loaded once per token and
+ * then served from {@link JwtUserCache} until the entry expires.
+ */
+</#if>
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+<#if !claimsAuth>
     private final CustomUserDetailsService userDetailsService;
+</#if>
+<#if userCache>
+    private final JwtUserCache userCache;
+</#if>
 
+<#if claimsAuth>
+    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+    }
+<#elseif userCache>
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService, JwtUserCache userCache) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+        this.userCache = userCache;
+    }
+<#else>
     public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
     }
+</#if>
 
     @Override
     protected void doFilterInternal(
@@ -33,27 +74,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userEmail;
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
-        jwt = authHeader.substring(7);
-        userEmail = jwtUtil.extractUsername(jwt);
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            if (jwtUtil.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+
+        // One parse verifies the signature and the expiry; a bad token leaves the request anonymous
+        final Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(authHeader.substring(7));
+        } catch (JwtException | IllegalArgumentException e) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final String username = claims.getSubject();
+        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+<#if claimsAuth>
+            UserDetails userDetails = User.withUsername(username)
+                    .password("")
+                    .authorities(jwtUtil.extractAuthorities(claims))
+                    .build();
+<#else>
+            UserDetails userDetails;
+            try {
+<#if userCache>
+                userDetails = userCache.get(username, claims.getId(),
+                        () -> userDetailsService.loadUserByUsername(username));
+<#else>
+                userDetails = userDetailsService.loadUserByUsername(username);
+</#if>
+            } catch (UsernameNotFoundException e) {
+                filterChain.doFilter(request, response);
+                return;
             }
+</#if>
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    userDetails,
+                    null,
+                    userDetails.getAuthorities()
+            );
+            authToken.setDetails(
+                    new WebAuthenticationDetailsSource().buildDetails(request)
+            );
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
         filterChain.doFilter(request, response);
     }
@@ -0,0 +1,71 @@
+package ${packageName}.config;
+
+<#assign dynamicRbac = (security.rbacMode!"") == "DYNAMIC">
+<#if dynamicRbac>
+import ${packageName}.security.RolesChangedEvent;
+</#if>
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+<#if dynamicRbac>
+import org.springframework.transaction.event.TransactionalEventListener;
+</#if>
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, short-lived cache of the users behind JWTs.
+ *
+ * Entries are keyed by subject and token id, so a new login always reads the user
+ * again, and expire after ${security.jwtUserCacheTtlSeconds?c} seconds, which bounds how long a
+ * role or account change can go unnoticed by an already issued token. Cached users
+ * are immutable copies without the password hash, never the JPA entity itself.
+<#if dynamicRbac>
+ * A role change clears the whole cache, since it may affect any user.
+</#if>
+ */
+@Component
+public class JwtUserCache {
+
+    private final Cache<String, UserDetails> cache = Caffeine.newBuilder()
+            .maximumSize(${security.jwtUserCacheMaxSize?c})
+            .expireAfterWrite(Duration.ofSeconds(${security.jwtUserCacheTtlSeconds?c}))
+            .build();
+
+    public UserDetails get(String subject, String tokenId, Supplier<UserDetails> loader) {
+        return cache.get(subject + ":" + tokenId, key -> snapshot(loader.get()));
+    }
+
+    /**
+     * Drops every cached token of a user, e.g. after a password or role change.
+     */
+    public void invalidate(String subject) {
+        String prefix = subject + ":";
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+<#if dynamicRbac>
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRolesChanged(RolesChangedEvent event) {
+        invalidateAll();
+    }
+</#if>
+
+    private static UserDetails snapshot(UserDetails user) {
+        return User.withUsername(user.getUsername())
+                .password("")
+                .authorities(user.getAuthorities())
+                .accountExpired(!user.isAccountNonExpired())
+                .accountLocked(!user.isAccountNonLocked())
+                .credentialsExpired(!user.isCredentialsNonExpired())
+                .disabled(!user.isEnabled())
+                .build();
+    }
+}
@@ -1,22 +1,37 @@
 package ${packageName}.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
+<#if security.jwtAuthoritiesInToken>
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+</#if>
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
+<#if security.jwtAuthoritiesInToken>
+import java.util.List;
+</#if>
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 public class JwtUtil {
+<#if security.jwtAuthoritiesInToken>
+
+    /** Claim holding the granted authorities, so requests need no user lookup */
+    public static final String AUTHORITIES_CLAIM = "authorities";
+</#if>
 
     /**
      * SECURITY WARNING: The default secret key is for development only!
@@ -32,6 +47,16 @@ public class JwtUtil {
     @Value("${r"${jwt.refresh-expiration:604800000}"}")  // 7 days default
     private long refreshExpiration;
 
+    // Decoding the key and building the parser once keeps per-request work to the signature check
+    private Key signInKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        parser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -42,7 +67,13 @@ public class JwtUtil {
     }
 
     public String generateToken(UserDetails userDetails) {
+<#if security.jwtAuthoritiesInToken>
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(AUTHORITIES_CLAIM, userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        return generateToken(claims, userDetails);
+<#else>
         return generateToken(new HashMap<>(), userDetails);
+</#if>
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
@@ -56,6 +87,7 @@ public class JwtUtil {
     public String generateTokenFromUsername(String username) {
         return Jwts.builder()
                 .setSubject(username)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
                 .signWith(getSignInKey(), SignatureAlgorithm.HS256)
@@ -66,6 +98,7 @@ public class JwtUtil {
         return Jwts.builder()
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getUsername())
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
                 .signWith(getSignInKey(), SignatureAlgorithm.HS256)
@@ -85,16 +118,32 @@ public class JwtUtil {
         return extractClaim(token, Claims::getExpiration);
     }
 
+    /**
+     * Verifies the signature and expiry of a token and returns its claims.
+     *
+     * @throws io.jsonwebtoken.JwtException If the token is malformed, forged or expired
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+<#if security.jwtAuthoritiesInToken>
+
+    public List<GrantedAuthority> extractAuthorities(Claims claims) {
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+        if (authorities == null) {
+            return List.of();
+        }
+        return authorities.stream()
+                .<GrantedAuthority>map(authority -> new SimpleGrantedAuthority(authority.toString()))
+                .toList();
+    }
+</#if>
+
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parseClaims(token);
     }
 
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signInKey;
     }
 }
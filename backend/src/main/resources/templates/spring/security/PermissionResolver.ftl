@@ -0,0 +1,107 @@
+package ${packageName}.security;
+
+import ${packageName}.entity.Role;
+import ${packageName}.repository.RoleRepository;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves the authorities of Dynamic RBAC roles from an immutable snapshot.
+ *
+ * The snapshot maps each role name to its granted authorities (ROLE_ name plus
+ * permissions) and is read once from the database, so resolving a user's
+ * authorities costs one hash lookup per role. A {@link RolesChangedEvent} drops it
+ * after the changing transaction commits and the next lookup reloads it.
+ */
+@Component
+public class PermissionResolver {
+
+    /** Lets entities, which are not Spring beans, reach the snapshot */
+    private static volatile PermissionResolver instance;
+
+    private final RoleRepository roleRepository;
+
+    /** Bumped on every invalidation, so a load that raced with one is not installed */
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Map<String, List<GrantedAuthority>> snapshot;
+
+    public PermissionResolver(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+        instance = this;
+    }
+
+    /**
+     * Authorities granted by the given roles. Roles missing from the snapshot (or any
+     * role before the application context is up) are resolved from the entity itself.
+     */
+    public static Collection<? extends GrantedAuthority> resolve(Collection<Role> roles) {
+        PermissionResolver resolver = instance;
+        Map<String, List<GrantedAuthority>> byRole = resolver != null ? resolver.snapshot() : Map.of();
+        if (roles.size() == 1) {
+            Role role = roles.iterator().next();
+            List<GrantedAuthority> granted = byRole.get(role.getName());
+            return granted != null ? granted : authoritiesOf(role);
+        }
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (Role role : roles) {
+            List<GrantedAuthority> granted = byRole.get(role.getName());
+            authorities.addAll(granted != null ? granted : authoritiesOf(role));
+        }
+        return authorities;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRolesChanged(RolesChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    Map<String, List<GrantedAuthority>> snapshot() {
+        Map<String, List<GrantedAuthority>> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        long loadedGeneration = generation.get();
+        Map<String, List<GrantedAuthority>> loaded = load();
+        synchronized (this) {
+            if (generation.get() == loadedGeneration) {
+                snapshot = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private Map<String, List<GrantedAuthority>> load() {
+        Map<String, List<GrantedAuthority>> byRole = new HashMap<>();
+        for (Role role : roleRepository.findAllWithPermissions()) {
+            byRole.put(role.getName(), authoritiesOf(role));
+        }
+        return Map.copyOf(byRole);
+    }
+
+    private static List<GrantedAuthority> authoritiesOf(Role role) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        String roleName = role.getName().toUpperCase();
+        authorities.add(new SimpleGrantedAuthority(roleName.startsWith("ROLE_") ? roleName : "ROLE_" + roleName));
+        if (role.getPermissions() != null) {
+            for (String permission : role.getPermissions()) {
+                authorities.add(new SimpleGrantedAuthority(permission));
+            }
+        }
+        return List.copyOf(authorities);
+    }
+}
@@ -0,0 +1,31 @@
+package ${packageName}.security;
+
+import ${packageName}.entity.Role;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener of the Role entity that announces every change as a {@link RolesChangedEvent}.
+ *
+ * Role is versioned, so editing only its permission collection also counts as an update.
+ * Spring Boot lets Hibernate create this listener as a bean.
+ */
+@Component
+public class RoleChangeListener {
+
+    private final ApplicationEventPublisher events;
+
+    public RoleChangeListener(ApplicationEventPublisher events) {
+        this.events = events;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void roleChanged(Role role) {
+        events.publishEvent(new RolesChangedEvent(role.getName()));
+    }
+}
@@ -0,0 +1,9 @@
+package ${packageName}.security;
+
+/**
+ * Published when a role or its permissions are created, changed or deleted.
+ *
+ * @param roleName Name of the changed role
+ */
+public record RolesChangedEvent(String roleName) {
+}
@@ -0,0 +1,163 @@
+package com.firas.generator.service;
+
+import com.firas.generator.model.ProjectRequest;
+import com.firas.generator.model.Table;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GenerationAdmissionServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    public void previewsShouldBeAdmittedBeforeQueuedDownloads() throws Exception {
+        GenerationAdmissionService service = service(1, 8, 256, 5000);
+        GenerationAdmissionService.Permit running = service.acquire(request(1), GenerationAdmissionService.Kind.DOWNLOAD);
+
+        List<String> admitted = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Void>> waiters = new ArrayList<>();
+        waiters.add(queue(service, request(1), GenerationAdmissionService.Kind.DOWNLOAD, "D1", admitted));
+        awaitCondition(() -> service.getQueueDepth() == 1);
+        waiters.add(queue(service, request(1), GenerationAdmissionService.Kind.DOWNLOAD, "D2", admitted));
+        awaitCondition(() -> service.getQueueDepth() == 2);
+        waiters.add(queue(service, request(1), GenerationAdmissionService.Kind.PREVIEW, "P1", admitted));
+        awaitCondition(() -> service.getQueueDepth() == 3);
+
+        running.close();
+        for (CompletableFuture<Void> waiter : waiters) {
+            waiter.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(List.of("P1", "D1", "D2"), admitted);
+        assertEquals(0, service.getActive());
+        assertEquals(0, service.getReservedBytes());
+    }
+
+    @Test
+    public void waitingPastTheTimeoutShouldBeRejected() {
+        GenerationAdmissionService service = service(1, 8, 256, 50);
+        try (GenerationAdmissionService.Permit running =
+                     service.acquire(request(1), GenerationAdmissionService.Kind.DOWNLOAD)) {
+            GenerationRejectedException e = assertThrows(GenerationRejectedException.class,
+                    () -> service.acquire(request(1), GenerationAdmissionService.Kind.PREVIEW));
+            assertEquals(5, e.getRetryAfterSeconds());
+        }
+
+        assertEquals(0, service.getQueueDepth());
+        assertEquals(1.0, rejected("preview", "timeout"));
+    }
+
+    @Test
+    public void memoryBudgetShouldHoldBackRequestsThatDoNotFit() throws Exception {
+        GenerationAdmissionService service = service(4, 8, 1, 5000);
+        ProjectRequest request = request(5);
+        long cost = service.estimateCost(request);
+        assertTrue(cost * 2 > 1024 * 1024, "two requests should exceed the 1MB budget");
+
+        GenerationAdmissionService.Permit first = service.acquire(request, GenerationAdmissionService.Kind.DOWNLOAD);
+        assertEquals(cost, service.getReservedBytes());
+
+        List<String> admitted = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> second = queue(service, request, GenerationAdmissionService.Kind.DOWNLOAD, "second", admitted);
+        awaitCondition(() -> service.getQueueDepth() == 1);
+        assertTrue(admitted.isEmpty(), "second request should wait for budget");
+
+        first.close();
+        second.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("second"), admitted);
+
+        // Larger than the whole budget: admitted alone, reserving the budget at most
+        try (GenerationAdmissionService.Permit oversized =
+                     service.acquire(request(50), GenerationAdmissionService.Kind.DOWNLOAD)) {
+            assertEquals(1024 * 1024, service.getReservedBytes());
+        }
+        assertEquals(0, service.getReservedBytes());
+    }
+
+    @Test
+    public void fullQueueShouldRejectDownloadsButLetPreviewsEvictTheNewestDownload() throws Exception {
+        GenerationAdmissionService service = service(1, 1, 256, 5000);
+        GenerationAdmissionService.Permit running = service.acquire(request(1), GenerationAdmissionService.Kind.DOWNLOAD);
+
+        List<String> admitted = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> download = queue(service, request(1), GenerationAdmissionService.Kind.DOWNLOAD, "D1", admitted);
+        awaitCondition(() -> service.getQueueDepth() == 1);
+
+        assertThrows(GenerationRejectedException.class,
+                () -> service.acquire(request(1), GenerationAdmissionService.Kind.DOWNLOAD));
+        assertEquals(1.0, rejected("download", "queue_full"));
+
+        CompletableFuture<Void> preview = queue(service, request(1), GenerationAdmissionService.Kind.PREVIEW, "P1", admitted);
+        ExecutionException evicted = assertThrows(ExecutionException.class, () -> download.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(GenerationRejectedException.class, evicted.getCause());
+        assertEquals(1.0, rejected("download", "evicted"));
+        assertEquals(1, service.getQueueDepth());
+
+        running.close();
+        preview.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("P1"), admitted);
+
+        // A full queue of previews has nothing to evict
+        running = service.acquire(request(1), GenerationAdmissionService.Kind.DOWNLOAD);
+        CompletableFuture<Void> queuedPreview = queue(service, request(1), GenerationAdmissionService.Kind.PREVIEW, "P2", admitted);
+        awaitCondition(() -> service.getQueueDepth() == 1);
+        assertThrows(GenerationRejectedException.class,
+                () -> service.acquire(request(1), GenerationAdmissionService.Kind.PREVIEW));
+        assertEquals(1.0, rejected("preview", "queue_full"));
+
+        running.close();
+        queuedPreview.get(5, TimeUnit.SECONDS);
+    }
+
+    private GenerationAdmissionService service(int maxConcurrent, int maxQueue, long budgetMb, long timeoutMs) {
+        return new GenerationAdmissionService(registry, maxConcurrent, maxQueue, budgetMb, timeoutMs, 5);
+    }
+
+    private double rejected(String kind, String reason) {
+        return registry.counter("generator.admission.rejected", "kind", kind, "reason", reason).count();
+    }
+
+    /**
+     * Acquires on another thread, records the label once admitted and releases right away.
+     */
+    private static CompletableFuture<Void> queue(GenerationAdmissionService service, ProjectRequest request,
+                                                 GenerationAdmissionService.Kind kind,
+                                                 String label, List<String> admitted) {
+        return CompletableFuture.runAsync(() -> {
+            try (GenerationAdmissionService.Permit permit = service.acquire(request, kind)) {
+                admitted.add(label);
+            }
+        }, runnable -> new Thread(runnable).start());
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached in time");
+            Thread.sleep(5);
+        }
+    }
+
+    private static ProjectRequest request(int tableCount) {
+        List<Table> tables = new ArrayList<>();
+        for (int i = 0; i < tableCount; i++) {
+            Table table = new Table();
+            table.setName("table_" + i);
+            table.setColumns(new ArrayList<>());
+            tables.add(table);
+        }
+        ProjectRequest request = new ProjectRequest();
+        request.setTables(tables);
+        return request;
+    }
+}
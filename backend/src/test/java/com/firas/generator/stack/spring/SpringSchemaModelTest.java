@@ -0,0 +1,117 @@
+package com.firas.generator.stack.spring;
+
+import com.firas.generator.model.Column;
+import com.firas.generator.model.Relationship;
+import com.firas.generator.model.RelationshipType;
+import com.firas.generator.model.Table;
+import com.firas.generator.util.sql.SqlParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpringSchemaModelTest {
+
+    @Test
+    public void joinTableMappingsShouldMatchMigrationColumns() throws Exception {
+        List<Table> tables = parse("/hard_schema.sql");
+        SpringSchemaModel schema = SpringSchemaModel.of(tables, "postgresql", false, 50, false);
+
+        int checked = 0;
+        for (Table table : tables) {
+            for (Relationship rel : table.getRelationships()) {
+                if (rel.getType() != RelationshipType.MANY_TO_MANY || rel.getMappedBy() != null) {
+                    continue;
+                }
+                // Entity.ftl maps @JoinTable(joinColumns = sourceColumn, inverseJoinColumns = targetColumn)
+                Set<String> columns = columnsOf(schema, rel.getJoinTable());
+                assertTrue(columns.contains(rel.getSourceColumn()),
+                        rel.getJoinTable() + " should have join column " + rel.getSourceColumn() + ", has " + columns);
+                assertTrue(columns.contains(rel.getTargetColumn()),
+                        rel.getJoinTable() + " should have inverse join column " + rel.getTargetColumn() + ", has " + columns);
+                checked++;
+            }
+        }
+        assertTrue(checked > 0, "hard_schema.sql should yield at least one owning MANY_TO_MANY relationship");
+    }
+
+    @Test
+    public void parsedColumnsShouldKeepDeclaredLengthAndPrecision() throws Exception {
+        SpringSchemaModel schema = SpringSchemaModel.of(parse("/hard_schema.sql"), "postgresql", false, 50, false);
+
+        assertEquals("varchar(100)", sqlTypeOf(schema, "users", "username"));
+        assertEquals("varchar(20)", sqlTypeOf(schema, "orders", "status"));
+        assertEquals("(12,2)", sqlTypeOf(schema, "orders", "total").replaceAll("[a-z]", ""));
+    }
+
+    @Test
+    public void declaredTypesShouldBeKeptOnlyWhenHibernateValidatesThem() {
+        assertEquals("text", SpringSchemaModel.sqlType(column("TEXT", "String"), "postgresql"));
+        assertEquals("varchar(2000)", SpringSchemaModel.sqlType(column("VARCHAR(2000)", "String"), "mysql"));
+        assertEquals("numeric(10,4)", SpringSchemaModel.sqlType(column("NUMERIC(10, 4)", "BigDecimal"), "postgresql"));
+        assertEquals("longblob", SpringSchemaModel.sqlType(column("LONGBLOB", "byte[]"), "mysql"));
+        assertEquals("bytea", SpringSchemaModel.sqlType(column("BYTEA", "byte[]"), "postgresql"));
+
+        // Not equivalent for Hibernate, or not valid on the dialect: the Java type decides
+        assertEquals("varchar(255)", SpringSchemaModel.sqlType(column("CHAR(2)", "String"), "postgresql"));
+        assertEquals("varchar(255)", SpringSchemaModel.sqlType(column("VARCHAR", "String"), "mysql"));
+        assertEquals("varbinary(255)", SpringSchemaModel.sqlType(column("BYTEA", "byte[]"), "mysql"));
+        assertEquals("bigint", SpringSchemaModel.sqlType(column("INT8", "Long"), "postgresql"));
+        assertEquals("varchar(255)", SpringSchemaModel.sqlType(column(null, "String"), "postgresql"));
+    }
+
+    private static Column column(String type, String javaType) {
+        Column column = new Column();
+        column.setName("value");
+        column.setType(type);
+        column.setJavaType(javaType);
+        return column;
+    }
+
+    private static String sqlTypeOf(SpringSchemaModel schema, String table, String column) {
+        return schema.getTables().stream()
+                .filter(def -> def.getName().equalsIgnoreCase(table))
+                .flatMap(def -> def.getColumns().stream())
+                .filter(def -> def.getName().equalsIgnoreCase(column))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Migration has no column " + table + "." + column))
+                .getSqlType();
+    }
+
+    private static Set<String> columnsOf(SpringSchemaModel schema, String tableName) {
+        return schema.getTables().stream()
+                .filter(table -> table.getName().equalsIgnoreCase(tableName))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Migration has no table " + tableName))
+                .getColumns().stream()
+                .map(SpringSchemaModel.ColumnDef::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private static List<Table> parse(String resource) throws Exception {
+        String sql;
+        try (InputStream in = SpringSchemaModelTest.class.getResourceAsStream(resource)) {
+            assertNotNull(in, resource + " should be on the test classpath");
+            sql = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        try (Connection connection = DriverManager.getConnection(
+                "jdbc:h2:mem:" + System.nanoTime() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")) {
+            try (Statement statement = connection.createStatement()) {
+                for (String ddl : sql.split(";")) {
+                    if (!ddl.isBlank()) {
+                        statement.execute(ddl);
+                    }
+                }
+            }
+            return new SqlParser().loadMetadata(connection);
+        }
+    }
+}
@@ -184,6 +184,7 @@ export function ProjectConfigPhase() {
       includeDto: projectConfig.includeDto,
       includeMapper: projectConfig.includeMapper,
       includeTests: projectConfig.includeTests,
+      includeLoadTests: projectConfig.includeLoadTests,
       includeDocker: projectConfig.includeDocker,
       securityConfig: projectConfig.securityConfig,
       tables: tables.map((table) => ({
@@ -729,6 +730,13 @@ Generated by Spring Generator
                         onCheckedChange={(checked) => setProjectConfig({ includeTests: checked })}
                       />
                     </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Load Tests (Gatling)</Label>
+                      <Switch
+                        checked={projectConfig.includeLoadTests}
+                        onCheckedChange={(checked) => setProjectConfig({ includeLoadTests: checked })}
+                      />
+                    </div>
                     <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
                       <Label className="text-sm">Docker Support</Label>
                       <Switch
@@ -736,6 +744,132 @@ Generated by Spring Generator
                         onCheckedChange={(checked) => setProjectConfig({ includeDocker: checked })}
                       />
                     </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Paginated Lists</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.paginationEnabled}
+                        onCheckedChange={(checked) => setSpringConfig({ paginationEnabled: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Keyset Pagination</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.keysetPagination}
+                        onCheckedChange={(checked) => setSpringConfig({ keysetPagination: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Service Caching</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.cacheEnabled}
+                        onCheckedChange={(checked) => setSpringConfig({ cacheEnabled: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Bulk Writes</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.bulkWrites}
+                        onCheckedChange={(checked) => setSpringConfig({ bulkWrites: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Flyway Migrations</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.databaseMigrations}
+                        onCheckedChange={(checked) => setSpringConfig({ databaseMigrations: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Dev Profile (log SQL)</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.runtimeProfile === "dev"}
+                        onCheckedChange={(checked) => setSpringConfig({ runtimeProfile: checked ? "dev" : "prod" })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Reactive (WebFlux + R2DBC)</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.reactive}
+                        onCheckedChange={(checked) => setSpringConfig({ reactive: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">GraalVM Native Image</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.nativeImage}
+                        onCheckedChange={(checked) => setSpringConfig({ nativeImage: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">CDS Archive (Docker)</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.classDataSharing}
+                        onCheckedChange={(checked) => setSpringConfig({ classDataSharing: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">jlink Runtime (Docker)</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.jlinkRuntime}
+                        onCheckedChange={(checked) => setSpringConfig({ jlinkRuntime: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Observability (Prometheus)</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.observability}
+                        onCheckedChange={(checked) => setSpringConfig({ observability: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Streaming Export (NDJSON/CSV)</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.streamingExport}
+                        onCheckedChange={(checked) => setSpringConfig({ streamingExport: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Streaming Import (NDJSON/CSV)</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.streamingImport}
+                        onCheckedChange={(checked) => setSpringConfig({ streamingImport: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Optimistic Locking (ETag)</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.optimisticLocking}
+                        onCheckedChange={(checked) => setSpringConfig({ optimisticLocking: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Sparse Fieldsets (?fields=)</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.sparseFieldsets}
+                        onCheckedChange={(checked) => setSpringConfig({ sparseFieldsets: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">HTTP Tuning (gzip, HTTP/2)</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.httpTuning}
+                        onCheckedChange={(checked) => setSpringConfig({ httpTuning: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Read Replica Routing</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.readReplica}
+                        onCheckedChange={(checked) => setSpringConfig({ readReplica: checked })}
+                      />
+                    </div>
+                    <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                      <Label className="text-sm">Indexed Filter Endpoints</Label>
+                      <Switch
+                        checked={projectConfig.springConfig.filterEndpoints}
+                        onCheckedChange={(checked) => setSpringConfig({ filterEndpoints: checked })}
+                      />
+                    </div>
                   </div>
                 </>
               )}
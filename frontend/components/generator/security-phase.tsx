@@ -187,6 +187,26 @@ export function SecurityPhase() {
                             </SelectContent>
                         </Select>
                     </div>
+
+                    {security.authenticationType === "JWT" && (
+                        <div className="grid grid-cols-1 md:grid-cols-2 gap-4 mt-6">
+                            <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                                <Label className="text-sm">Authorities in Token (no DB lookup)</Label>
+                                <Switch
+                                    checked={!!security.jwtAuthoritiesInToken}
+                                    onCheckedChange={(checked) => setSecurityConfig({ jwtAuthoritiesInToken: checked })}
+                                />
+                            </div>
+                            <div className="flex items-center justify-between p-3 rounded-lg bg-secondary/30">
+                                <Label className="text-sm">Cache Users per Token (60s)</Label>
+                                <Switch
+                                    checked={!!security.jwtUserCache}
+                                    disabled={!!security.jwtAuthoritiesInToken}
+                                    onCheckedChange={(checked) => setSecurityConfig({ jwtUserCache: checked })}
+                                />
+                            </div>
+                        </div>
+                    )}
                 </motion.div>
 
                 {/* Identity & RBAC Config */}
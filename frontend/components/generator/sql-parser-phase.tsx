@@ -362,22 +362,43 @@ export function SqlParserPhase() {
         setError(null)
 
         try {
-            // Try API first
-            const encodedSql = encodeURIComponent(sqlInput)
-            const response = await fetch(`${process.env.NEXT_PUBLIC_BACKEND_URL}/api/sqlParser/${encodedSql}?dialect=${sqlDialect}`, {
-                method: "GET",
+            // Try API first: stream the SQL in the body and read tables back as NDJSON
+            const response = await fetch(`${process.env.NEXT_PUBLIC_BACKEND_URL}/api/sqlParser/stream?dialect=${sqlDialect}`, {
+                method: "POST",
+                headers: { "Content-Type": "text/plain" },
+                body: sqlInput,
                 signal: AbortSignal.timeout(10000),
             })
 
-            if (response.ok) {
-                const apiTables = await response.json()
-                // Add IDs and positions to API response
-                const tables: Table[] = apiTables.map((t: Omit<Table, "id" | "position">, i: number) => ({
-                    ...t,
-                    id: `table-${Date.now()}-${Math.random().toString(36).substring(2, 11)}`,
-                    position: { x: 100 + i * 350, y: 100 },
-                }))
-                setTables(tables)
+            if (response.ok && response.body) {
+                const tables: Table[] = []
+                // Add IDs and positions to each table as it arrives
+                const appendTable = (line: string) => {
+                    const t: Omit<Table, "id" | "position"> = JSON.parse(line)
+                    tables.push({
+                        ...t,
+                        id: `table-${Date.now()}-${Math.random().toString(36).substring(2, 11)}`,
+                        position: { x: 100 + tables.length * 350, y: 100 },
+                    })
+                    setTables([...tables])
+                }
+
+                const reader = response.body.getReader()
+                const decoder = new TextDecoder()
+                let buffer = ""
+                while (true) {
+                    const { done, value } = await reader.read()
+                    if (done) break
+                    buffer += decoder.decode(value, { stream: true })
+                    let newline
+                    while ((newline = buffer.indexOf("\n")) >= 0) {
+                        const line = buffer.slice(0, newline).trim()
+                        buffer = buffer.slice(newline + 1)
+                        if (line) appendTable(line)
+                    }
+                }
+                if (buffer.trim()) appendTable(buffer.trim())
+
                 toast.success(`Parsed ${tables.length} table(s) successfully!`)
                 setCurrentPhase(2)
             } else {
@@ -40,6 +40,34 @@ export interface SpringConfig {
   buildTool: "maven" | "gradle"
   packaging: "jar" | "war"
   projectStructure: ProjectStructure
+  paginationEnabled: boolean
+  keysetPagination: boolean
+  defaultPageSize: number
+  maxPageSize: number
+  cacheEnabled: boolean
+  cacheTtlSeconds: number
+  cacheMaxSize: number
+  entityCaches: Record<string, { ttlSeconds?: number; maxSize?: number }>
+  bulkWrites: boolean
+  jdbcBatchSize: number
+  databaseMigrations: boolean
+  runtimeProfile: "dev" | "prod"
+  connectionPoolSize: number
+  reactive: boolean
+  nativeImage: boolean
+  classDataSharing: boolean
+  jlinkRuntime: boolean
+  maxRamPercentage: number
+  observability: boolean
+  streamingExport: boolean
+  streamFetchSize: number
+  streamingImport: boolean
+  importChunkSize: number
+  optimisticLocking: boolean
+  sparseFieldsets: boolean
+  httpTuning: boolean
+  readReplica: boolean
+  filterEndpoints: boolean
 }
 
 export interface NodeConfig {
@@ -139,6 +167,7 @@ export interface ProjectConfig {
   includeDto: boolean
   includeMapper: boolean
   includeTests: boolean
+  includeLoadTests: boolean
   includeDocker: boolean
 
   // Stack-specific configs
@@ -169,6 +198,12 @@ export interface SecurityConfig {
   rbacMode?: "STATIC" | "DYNAMIC"    // NEW: Dual-Mode RBAC
   roleEntity?: string      // Name of the role entity (for Dynamic mode)
 
+  // JWT request authentication
+  jwtUserCache?: boolean          // Cache UserDetails per subject and token id
+  jwtUserCacheTtlSeconds?: number
+  jwtUserCacheMaxSize?: number
+  jwtAuthoritiesInToken?: boolean // Authorities as claims: no lookup per request
+
   // RBAC Configuration
   permissions?: string[]   // List of available permissions (e.g. "user:read")
   definedRoles?: { name: string, permissions: string[] }[] // Role definitions
@@ -249,6 +284,34 @@ const defaultSpringConfig: SpringConfig = {
   buildTool: "maven",
   packaging: "jar",
   projectStructure: "LAYERED",
+  paginationEnabled: false,
+  keysetPagination: false,
+  defaultPageSize: 20,
+  maxPageSize: 100,
+  cacheEnabled: false,
+  cacheTtlSeconds: 600,
+  cacheMaxSize: 1000,
+  entityCaches: {},
+  bulkWrites: false,
+  jdbcBatchSize: 50,
+  databaseMigrations: false,
+  runtimeProfile: "prod",
+  connectionPoolSize: 10,
+  reactive: false,
+  nativeImage: false,
+  classDataSharing: false,
+  jlinkRuntime: false,
+  maxRamPercentage: 75,
+  observability: false,
+  streamingExport: false,
+  streamFetchSize: 500,
+  streamingImport: false,
+  importChunkSize: 1000,
+  optimisticLocking: false,
+  sparseFieldsets: false,
+  httpTuning: false,
+  readReplica: false,
+  filterEndpoints: false,
 }
 
 const defaultNodeConfig: NodeConfig = {
@@ -287,6 +350,7 @@ const defaultProjectConfig: ProjectConfig = {
   includeDto: false,
   includeMapper: false,
   includeTests: false,
+  includeLoadTests: false,
   includeDocker: false,
   springConfig: defaultSpringConfig,
   nodeConfig: defaultNodeConfig,